@@ -15,12 +15,18 @@
  */
 package com.okta.cli;
 
+import com.okta.cli.common.service.RateLimitingRequestExecutorFactory;
 import com.okta.cli.console.ConsoleOutput;
 import com.okta.cli.console.DefaultPrompter;
 import com.okta.cli.console.DisabledPrompter;
 import com.okta.cli.console.Prompter;
 
+import com.okta.sdk.client.Client;
+import com.okta.sdk.client.ClientBuilder;
+import com.okta.sdk.client.Clients;
+
 import java.io.File;
+import java.util.function.Consumer;
 
 public class Environment {
 
@@ -38,6 +44,11 @@ public class Environment {
 
     private boolean consoleColors = true;
 
+    // requests from every client are paced by the shared rate limit scheduler
+    private Consumer<ClientBuilder> clientCustomizer = builder -> builder.setRequestExecutorFactory(new RateLimitingRequestExecutorFactory());
+
+    private Client client;
+
     public boolean isInteractive() {
         return interactive;
     }
@@ -88,4 +99,40 @@ public class Environment {
 
         return consoleOutput;
     }
+
+    /**
+     * Returns the Okta SDK Client shared by the current command, it is built the first time it is needed, so all API
+     * calls made by the command reuse the same configuration, connection pool, and cache.
+     * <p>
+     * The connection pool and timeouts can be tuned with the standard SDK properties (in {@code ~/.okta/okta.yaml},
+     * environment variables, or {@code -D} system properties), e.g. {@code okta.client.connectionTimeout},
+     * {@code okta.client.requestExecutor.maxConnectionsTotal}, and
+     * {@code okta.client.requestExecutor.maxConnectionsPerRoute}, or with {@link #customizeClient(Consumer)}.
+     */
+    public synchronized Client getClient() {
+        if (client == null) {
+            ClientBuilder builder = Clients.builder();
+            clientCustomizer.accept(builder);
+            client = builder.build();
+        }
+        return client;
+    }
+
+    /**
+     * Adds a customization that is applied to the SDK's ClientBuilder before the Client is built.
+     */
+    public synchronized Environment customizeClient(Consumer<ClientBuilder> customizer) {
+        clientCustomizer = clientCustomizer.andThen(customizer);
+        return this;
+    }
+
+    /**
+     * Releases the Client at the end of a command, the next command builds a new one, so changes to the Okta
+     * configuration (e.g. after {@code okta login}) are picked up.
+     */
+    public synchronized void releaseClient() {
+        // the SDK's Client does not hold any resources that need to be closed explicitly, pooled connections are
+        // closed when the process exits
+        client = null;
+    }
 }
@@ -21,6 +21,7 @@ import com.okta.cli.commands.Logs;
 import com.okta.cli.commands.Register;
 import com.okta.cli.commands.Start;
 import com.okta.cli.commands.apps.Apps;
+import com.okta.cli.common.service.LookupCache;
 import com.okta.commons.lang.ApplicationInfo;
 import com.okta.sdk.resource.ResourceException;
 import picocli.AutoComplete;
@@ -147,6 +148,11 @@ public class OktaCli implements Runnable {
             }
         }
 
+        @Option(names = "--no-cache", description = "Do not use cached Okta API lookups (e.g. the org's authorization servers), the cache is updated with the new results.")
+        public void setNoCache(boolean noCache) {
+            LookupCache.getInstance().setEnabled(!noCache);
+        }
+
         public boolean isVerbose() {
             return getEnvironment().isVerbose();
         }
@@ -17,8 +17,11 @@ package com.okta.cli.commands;
 
 import com.okta.cli.Environment;
 import com.okta.cli.OktaCli;
+import com.okta.cli.common.service.LookupCache;
+import com.okta.cli.common.service.RateLimitScheduler;
 import com.okta.cli.console.ConsoleOutput;
 import com.okta.cli.console.Prompter;
+import com.okta.sdk.client.Client;
 import picocli.CommandLine;
 
 import java.util.concurrent.Callable;
@@ -38,7 +41,31 @@ public abstract class BaseCommand implements Callable<Integer> {
 
     @Override
     public Integer call() throws Exception {
-        return runCommand();
+        try {
+            return runCommand();
+        } finally {
+            getEnvironment().releaseClient();
+            if (getEnvironment().isVerbose()) {
+                writeLookupCacheStats();
+                writeRateLimitStats();
+            }
+        }
+    }
+
+    private void writeLookupCacheStats() {
+        LookupCache lookupCache = LookupCache.getInstance();
+        if (lookupCache.getHits() + lookupCache.getMisses() > 0) {
+            getConsoleOutput().writeLine("Okta API lookup cache: " + lookupCache.getHits() + " hits, "
+                    + lookupCache.getMisses() + " misses");
+        }
+    }
+
+    private void writeRateLimitStats() {
+        RateLimitScheduler scheduler = RateLimitScheduler.getInstance();
+        if (scheduler.getDelayedRequests() > 0) {
+            getConsoleOutput().writeLine("Okta API rate limit: " + scheduler.getDelayedRequests() + " requests waited "
+                    + scheduler.getTotalWaitTime().toMillis() + "ms (max queue depth " + scheduler.getMaxQueueDepth() + ")");
+        }
     }
 
     protected OktaCli.StandardOptions getStandardOptions() {
@@ -57,6 +84,10 @@ public abstract class BaseCommand implements Callable<Integer> {
         return standardOptions.getEnvironment();
     }
 
+    protected Client getClient() {
+        return getEnvironment().getClient();
+    }
+
     protected ConfigQuestions configQuestions() {
         return new ConfigQuestions(this);
     }
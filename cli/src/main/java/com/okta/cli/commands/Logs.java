@@ -18,7 +18,6 @@ package com.okta.cli.commands;
 import com.okta.cli.console.ConsoleOutput;
 import com.okta.commons.lang.Strings;
 import com.okta.sdk.client.Client;
-import com.okta.sdk.client.Clients;
 import com.okta.sdk.impl.resource.AbstractCollectionResource;
 import com.okta.sdk.resource.log.LogEvent;
 import com.okta.sdk.resource.log.LogEventList;
@@ -45,7 +44,7 @@ public class Logs extends BaseCommand {
     @Override
     public int runCommand() throws Exception {
 
-        Client client = Clients.builder().build();
+        Client client = getClient();
 
         try (ConsoleOutput output = getConsoleOutput()) {
             // At most 1 hour back
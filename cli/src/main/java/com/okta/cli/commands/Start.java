@@ -23,19 +23,22 @@ import com.okta.cli.common.model.FilterConfigBuilder;
 import com.okta.cli.common.model.OidcProperties;
 import com.okta.cli.common.model.OktaSampleConfig;
 import com.okta.cli.common.model.SamplesListings;
+import com.okta.cli.common.service.BinaryFileDetector;
 import com.okta.cli.common.service.ClientConfigurationException;
-import com.okta.cli.common.service.DefaultInterpolator;
+import com.okta.cli.common.service.DefaultStartRestClient;
 import com.okta.cli.common.service.DefaultSampleConfigParser;
 import com.okta.cli.common.service.DefaultSdkConfigurationService;
 import com.okta.cli.common.service.DefaultSetupService;
-import com.okta.cli.common.service.DefaultStartRestClient;
+import com.okta.cli.common.service.InterpolationManifestTracker;
+import com.okta.cli.common.service.ParallelFileInterpolator;
+import com.okta.cli.common.service.SampleFileFilter;
 import com.okta.cli.common.service.TarballExtractor;
+import com.okta.cli.common.service.TemplateInterpolator;
 import com.okta.cli.console.ConsoleOutput;
 import com.okta.cli.console.PromptOption;
 import com.okta.commons.lang.Assert;
 import com.okta.commons.lang.Strings;
 import com.okta.sdk.client.Client;
-import com.okta.sdk.client.Clients;
 import com.okta.sdk.resource.application.OpenIdConnectApplicationType;
 import picocli.CommandLine;
 
@@ -50,29 +53,46 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import static com.okta.cli.common.service.SampleConfigParser.SAMPLE_CONFIG_DIR;
 import static com.okta.cli.common.service.SampleConfigParser.SAMPLE_CONFIG_PATH;
 
 @CommandLine.Command(name = "start",
                      description = "Creates an Okta Sample Application")
 public class Start extends BaseCommand {
 
+    private static final String GIT_ATTRIBUTES = ".gitattributes";
+
     @CommandLine.Parameters(description = "Name of sample", arity = "0..1")
     private String sampleName;
 
     @CommandLine.Option(names = {"--branch", "-b"}, description = "GitHub branch to use.", hidden = true, defaultValue = "main")
     private String branchName;
 
+    @CommandLine.Option(names = "--offline", description = "Use a previously downloaded copy of the sample, instead of downloading it.")
+    private boolean offline;
+
     @Override
     public int runCommand() throws Exception {
 
+        // when the user needs to pick a sample, fetch the list while the registration check runs
+        CompletableFuture<List<SamplesListings.OktaSample>> samplesFuture =
+                Strings.isEmpty(sampleName) && !new File(SAMPLE_CONFIG_PATH).exists()
+                        ? new DefaultStartRestClient().listSamplesAsync()
+                        : null;
+
         // registration is required, walk through the registration flow if needed
         Register.requireRegistration(getStandardOptions());
 
         final String appName;
         final File projectDirectory;
         final boolean extractedProject;
+        final String tarballUrl;
+        TarballExtractor extractor = new TarballExtractor(offline);
 
         // sampleName defined, unzip tarball into a new directory
         if (!Strings.isEmpty(sampleName)) {
@@ -80,8 +100,8 @@ public class Start extends BaseCommand {
             projectDirectory = new File(sampleName).getCanonicalFile();
 
             // TODO - make this constant or config
-            String url = "https://github.com/okta-samples/" + appName + "/tarball/" + branchName;
-            extractSample(url, projectDirectory);
+            tarballUrl = "https://github.com/okta-samples/" + appName + "/tarball/" + branchName;
+            extractSampleConfig(extractor, tarballUrl, projectDirectory);
             extractedProject = true;
 
         // check for existing .okta/.okta.yaml
@@ -89,11 +109,12 @@ public class Start extends BaseCommand {
             projectDirectory = new File(".").getCanonicalFile();
             appName = projectDirectory.getName();
             extractedProject = false;
+            tarballUrl = null;
 
         // other, get the list of samples from start.okta.dev and let the user pick them
         } else {
             // get list of samples
-            List<PromptOption<SamplesListings.OktaSample>> sampleOptions = new DefaultStartRestClient().listSamples().stream()
+            List<PromptOption<SamplesListings.OktaSample>> sampleOptions = await(samplesFuture).stream()
                     .map(sample -> PromptOption.of(sample.getDescription(), sample))
                     .collect(Collectors.toList());
 
@@ -105,7 +126,8 @@ public class Start extends BaseCommand {
             appName = "okta-" + sample.getName() + "-sample";
             projectDirectory = new File(appName).getCanonicalFile();
             // extract the selected sample
-            extractSample(sample.getTarballUrl(), projectDirectory);
+            tarballUrl = sample.getTarballUrl();
+            extractSampleConfig(extractor, tarballUrl, projectDirectory);
             extractedProject = true;
         }
 
@@ -118,7 +140,7 @@ public class Start extends BaseCommand {
                 config.getOAuthClient().getApplicationType().toUpperCase(Locale.ENGLISH));
 
         // create the Okta application
-        Client client = Clients.builder().build();
+        Client client = getClient();
         AuthorizationServer authorizationServer = CommonAppsPrompts.getIssuer(client, getPrompter(), null);
         MutablePropertySource propertySource = new MapPropertySource();
         new DefaultSetupService(OidcProperties.oktaEnv()).createOidcApplication(
@@ -143,10 +165,35 @@ public class Start extends BaseCommand {
                 .setIssuerId(authorizationServer.getId())
                 .build();
 
-        // walk directory structure, ignore .okta
-        Files.walkFileTree(projectDirectory.toPath(), new SampleFileVisitor(context));
+        // binary files are not filtered, the project's .gitattributes has already been extracted
+        BinaryFileDetector binaryFiles = new BinaryFileDetector(projectDirectory.toPath());
+        SampleFileFilter fileFilter = new SampleFileFilter(config.getInclude(), config.getExclude());
+        InterpolationManifestTracker manifest = null;
+        if (extractedProject) {
+            // extract the rest of the sample, placeholders are replaced as the files are written, like the directory
+            // walk below, files in any .okta directory are left as-is
+            extractSample(extractor, tarballUrl, projectDirectory, path -> !isExtractedFirst(path),
+                    path -> !isInSampleConfigDir(path) && fileFilter.test(path), context, binaryFiles);
+            // the .gitattributes was extracted before the context was known, now it has been read, filter it too
+            filterGitAttributes(projectDirectory.toPath(), fileFilter, context);
+        } else {
+            // walk directory structure, ignore .okta and excluded directories, the files are filtered in parallel,
+            // files that have not changed since the last run are skipped
+            manifest = new InterpolationManifestTracker(projectDirectory.toPath(), context);
+            SampleFileVisitor visitor = new SampleFileVisitor(projectDirectory.toPath(), fileFilter, context, binaryFiles, manifest);
+            Files.walkFileTree(projectDirectory.toPath(), visitor);
+            visitor.awaitCompletion();
+        }
 
         try (ConsoleOutput out = getConsoleOutput()) {
+            if (getEnvironment().isVerbose()) {
+                out.writeLine("Skipped " + binaryFiles.getSkippedFiles() + " binary files (" + binaryFiles.getSkippedBytes()
+                        + " bytes) when replacing placeholders");
+                if (manifest != null) {
+                    out.writeLine("Skipped " + manifest.getUnchangedFiles() + " files that have not changed since the last run");
+                }
+            }
+
             // provide instructions to user
             if (!Strings.isEmpty(config.getDirections())) {
 
@@ -162,43 +209,109 @@ public class Start extends BaseCommand {
         return 0;
     }
 
-    private void extractSample(String url, File projectDirectory) {
+    private static <T> T await(CompletableFuture<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            // throw the original exception, it contains a more useful message
+            if (e.getCause() instanceof Exception) {
+                throw (Exception) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private void extractSampleConfig(TarballExtractor extractor, String url, File projectDirectory) {
+        // only the sample's config is needed to create the Okta application, the remaining files are extracted after
+        // the application has been created, see extractSample()
+        extractSample(extractor, url, projectDirectory, Start::isExtractedFirst, path -> true, Collections.emptyMap(), new BinaryFileDetector());
+    }
+
+    private void extractSample(TarballExtractor extractor, String url, File projectDirectory, Predicate<String> include,
+                               Predicate<String> filter, Map<String, String> context, BinaryFileDetector binaryFiles) {
         try {
             // extract the remote zip
-            new TarballExtractor().extract(url, projectDirectory);
+            extractor.extract(url, projectDirectory, include, filter, context, binaryFiles);
         } catch (IOException e) {
             throw new CliFailureException("Failed to extract tarball from URL: " + url, e);
         }
     }
 
+    private static boolean isExtractedFirst(String path) {
+        // the sample config, and the .gitattributes needed to detect binary files
+        return path.startsWith(SAMPLE_CONFIG_DIR + "/") || GIT_ATTRIBUTES.equals(path);
+    }
+
+    /**
+     * Returns true if the path is in a {@code .okta} directory at any depth, e.g. in a multi-module sample.
+     */
+    static boolean isInSampleConfigDir(String path) {
+        String[] segments = path.split("/");
+        for (int i = 0; i < segments.length - 1; i++) {
+            if (SAMPLE_CONFIG_DIR.equals(segments[i])) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void filterGitAttributes(Path projectRoot, SampleFileFilter fileFilter, Map<String, String> context) throws IOException {
+        Path gitAttributes = projectRoot.resolve(GIT_ATTRIBUTES);
+        if (Files.isRegularFile(gitAttributes) && fileFilter.test(GIT_ATTRIBUTES)) {
+            String content = Files.readString(gitAttributes);
+            String filtered = new TemplateInterpolator().interpolate(content, context);
+            if (!filtered.equals(content)) {
+                Files.writeString(gitAttributes, filtered);
+            }
+        }
+    }
+
     static class SampleFileVisitor extends SimpleFileVisitor<Path> {
 
-        private Map<String, String> context;
+        private final Path projectRoot;
+        private final SampleFileFilter fileFilter;
+        private final ParallelFileInterpolator interpolator;
 
-        public SampleFileVisitor(Map<String, String> context) {
-            this.context = context;
+        public SampleFileVisitor(Path projectRoot, SampleFileFilter fileFilter, Map<String, String> context,
+                                 BinaryFileDetector binaryFiles, InterpolationManifestTracker manifest) {
+            this.projectRoot = projectRoot;
+            this.fileFilter = fileFilter;
+            // the interpolator is shared by all files, the context is compiled once
+            this.interpolator = new ParallelFileInterpolator(new TemplateInterpolator(), context, binaryFiles, manifest);
         }
 
         @Override
         public FileVisitResult visitFile(Path path, BasicFileAttributes attr) throws IOException {
-            if (!attr.isRegularFile()) {
+            if (!attr.isRegularFile() || !fileFilter.test(relativePath(path))) {
                 return FileVisitResult.CONTINUE;
             }
 
-            new DefaultInterpolator().interpolate(path, context);
+            interpolator.submit(path);
 
             return FileVisitResult.CONTINUE;
         }
 
         @Override
         public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attr) {
-            // TODO - make this a constant or project var
-            if (".okta".equals(dir.getFileName().toString())) {
+            if (SAMPLE_CONFIG_DIR.equals(dir.getFileName().toString())
+                    || fileFilter.isExcludedDirectory(relativePath(dir))) {
                 return FileVisitResult.SKIP_SUBTREE;
             }
 
             return FileVisitResult.CONTINUE;
         }
+
+        private String relativePath(Path path) {
+            return projectRoot.relativize(path).toString().replace(File.separatorChar, '/');
+        }
+
+        /**
+         * Waits for all visited files to be filtered.
+         * @throws IOException if any of the files could not be filtered
+         */
+        public void awaitCompletion() throws IOException {
+            interpolator.await();
+        }
     }
 
     private String oktaBaseUrl() throws ClientConfigurationException {
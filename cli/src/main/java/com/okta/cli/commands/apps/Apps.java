@@ -16,7 +16,6 @@
 package com.okta.cli.commands.apps;
 
 import com.okta.cli.commands.BaseCommand;
-import com.okta.sdk.client.Clients;
 import picocli.CommandLine;
 import picocli.CommandLine.Command;
 
@@ -36,7 +35,7 @@ public class Apps extends BaseCommand {
 
         String searchFilter = includeAll ? null : "status eq \"ACTIVE\"";
 
-        Clients.builder().build()
+        getClient()
                 .listApplications(null, searchFilter, null, null).stream()
                 .forEach(app -> {
                     getConsoleOutput().writeLine(app.getId() + "\t" + app.getLabel());
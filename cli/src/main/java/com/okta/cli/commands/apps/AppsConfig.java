@@ -21,7 +21,6 @@ import com.okta.cli.common.model.ClientCredentials;
 import com.okta.cli.console.ConsoleOutput;
 import com.okta.commons.lang.Assert;
 import com.okta.sdk.client.Client;
-import com.okta.sdk.client.Clients;
 import com.okta.sdk.resource.ExtensibleResource;
 import com.okta.sdk.resource.application.Application;
 import com.okta.sdk.resource.application.OpenIdConnectApplication;
@@ -38,7 +37,7 @@ public class AppsConfig extends BaseCommand {
 
     @Override
     public int runCommand() throws IOException {
-        Client client = Clients.builder().build();
+        Client client = getClient();
         Application app = client.getApplication(appName);
 
         Assert.isInstanceOf(OpenIdConnectApplication.class, app, "Existing application found with name '" +
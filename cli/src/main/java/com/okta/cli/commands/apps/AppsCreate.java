@@ -30,10 +30,10 @@ import com.okta.cli.console.Prompter;
 import com.okta.commons.lang.Assert;
 import com.okta.commons.lang.Strings;
 import com.okta.sdk.client.Client;
-import com.okta.sdk.client.Clients;
 import com.okta.sdk.resource.application.OpenIdConnectApplicationType;
 import picocli.CommandLine;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
@@ -54,9 +54,20 @@ public class AppsCreate extends BaseCommand {
     @CommandLine.Parameters(hidden = true, converter = EnumTypeConverter.class)
     List<QuickTemplate> quickTemplates;
 
+    @CommandLine.Option(names = "--from", description = "Create all of the apps defined in a YAML manifest file.")
+    File manifestFile;
+
+    @CommandLine.Option(names = "--parallel", description = "The number of apps created at the same time when using '--from', defaults to ${DEFAULT-VALUE}.", defaultValue = "4")
+    int parallel;
+
     @Override
     public int runCommand() throws Exception {
 
+        if (manifestFile != null) {
+            return new AppsManifestCreator(getClient(), getPrompter(), getConsoleOutput(), getBaseUrl(), parallel)
+                    .createApps(manifestFile, appCreationMixin.authorizationServerId);
+        }
+
         if (quickTemplates != null && quickTemplates.size() > 1) {
             throw new IllegalArgumentException("Only one positional parameter is allowed");
         }
@@ -104,7 +115,7 @@ public class AppsCreate extends BaseCommand {
                                                     "JHipster", "http://localhost:8080/login/oauth2/code/oidc"),
                                             appTemplate.getDefaultRedirectUris());
         List<String> postLogoutRedirectUris = getPostLogoutRedirectUris(redirectUris, appTemplate.getDefaultPostLogoutEndpoint());
-        Client client = Clients.builder().build();
+        Client client = getClient();
         AuthorizationServer issuer = getIssuer(client);
         String baseUrl = getBaseUrl();
         String groupClaimName = appTemplate.getGroupsClaim();
@@ -130,7 +141,7 @@ public class AppsCreate extends BaseCommand {
         String defaultRedirectUri = reverseDomain + ":/callback";
         List<String> redirectUris = getRedirectUris(Map.of("Reverse Domain name", defaultRedirectUri), defaultRedirectUri);
         List<String> postLogoutRedirectUris = getPostLogoutRedirectUris(redirectUris);
-        Client client = Clients.builder().build();
+        Client client = getClient();
         AuthorizationServer issuer = getIssuer(client);
 
         MutablePropertySource propertySource = new MapPropertySource();
@@ -155,7 +166,7 @@ public class AppsCreate extends BaseCommand {
         appTemplate = prompter.promptIfEmpty(appTemplate, "Framework of Application", ServiceAppTemplate.values(), ServiceAppTemplate.GENERIC);
 
         String baseUrl = getBaseUrl();
-        Client client = Clients.builder().build();
+        Client client = getClient();
         AuthorizationServer issuer = getIssuer(client);
 
         MutablePropertySource propertySource = appCreationMixin.getPropertySource(appTemplate.getDefaultConfigFileName());
@@ -173,7 +184,7 @@ public class AppsCreate extends BaseCommand {
         String baseUrl = getBaseUrl();
         List<String> redirectUris = getRedirectUris(Map.of("/callback", "http://localhost:8080/callback"), SpaAppTemplate.GENERIC.getDefaultRedirectUri());
         List<String> postLogoutRedirectUris = getPostLogoutRedirectUris(redirectUris);
-        Client client = Clients.builder().build();
+        Client client = getClient();
         AuthorizationServer authorizationServer = getIssuer(client);
         List<String> trustedOrigins = redirectUris.stream().map(URIs::baseUrlOf).collect(Collectors.toList());
 
@@ -260,7 +271,7 @@ public class AppsCreate extends BaseCommand {
      * Quick templates are meant to reduce prompts for the end user, for example you could instruct a user to run
      * {@code okta apps create spring-boot-service} and they would be minimally prompted.
      */
-    private enum QuickTemplate {
+    enum QuickTemplate {
         // web
         OKTA_SPRING_BOOT("okta-spring-boot", AppType.WEB, WebAppTemplate.OKTA_SPRING_BOOT),
         SPRING_BOOT("spring-boot", AppType.WEB, WebAppTemplate.SPRING_BOOT),
@@ -278,8 +289,8 @@ public class AppsCreate extends BaseCommand {
         private static final List<String> names = Arrays.stream(values()).map(it -> it.friendlyName).collect(Collectors.toList());
 
         private final String friendlyName;
-        private final AppType appType;
-        private final Object appTemplate; // TODO, this is ugly (needs a base type)
+        final AppType appType;
+        final Object appTemplate; // TODO, this is ugly (needs a base type)
 
         QuickTemplate(String friendlyName, AppType appType, Object appTemplate) {
             this.friendlyName = friendlyName;
@@ -18,7 +18,6 @@ package com.okta.cli.commands.apps;
 import com.okta.cli.commands.BaseCommand;
 import com.okta.cli.console.ConsoleOutput;
 import com.okta.sdk.client.Client;
-import com.okta.sdk.client.Clients;
 import com.okta.sdk.resource.ResourceException;
 import com.okta.sdk.resource.application.Application;
 import picocli.CommandLine;
@@ -41,7 +40,7 @@ public class AppsDelete extends BaseCommand {
 
         int exitCode = 0;
 
-        Client client = Clients.builder().build();
+        Client client = getClient();
 
         try (ConsoleOutput out = getConsoleOutput()) {
             for(String id : appIds) {
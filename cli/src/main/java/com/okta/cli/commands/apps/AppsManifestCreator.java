@@ -0,0 +1,234 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.commands.apps;
+
+import com.okta.cli.commands.apps.templates.ServiceAppTemplate;
+import com.okta.cli.commands.apps.templates.SpaAppTemplate;
+import com.okta.cli.commands.apps.templates.WebAppTemplate;
+import com.okta.cli.common.URIs;
+import com.okta.cli.common.config.MutablePropertySource;
+import com.okta.cli.common.model.AppsManifest;
+import com.okta.cli.common.model.AuthorizationServer;
+import com.okta.cli.common.model.OidcProperties;
+import com.okta.cli.common.service.AppsManifestParser;
+import com.okta.cli.common.service.ConfigFileLocatorService;
+import com.okta.cli.common.service.AuthorizationServerService;
+import com.okta.cli.common.service.DefaultAuthorizationServerService;
+import com.okta.cli.common.service.DefaultSetupService;
+import com.okta.cli.common.service.SetupService;
+import com.okta.cli.console.ConsoleOutput;
+import com.okta.cli.console.Prompter;
+import com.okta.commons.lang.Strings;
+import com.okta.sdk.client.Client;
+import com.okta.sdk.resource.application.OpenIdConnectApplicationType;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Creates the OIDC applications defined in an {@link AppsManifest}. The SDK client, the authorization server lookup,
+ * and the 'Everyone' group lookup are shared by all apps, and the apps are created concurrently. A failure to create
+ * one app does not stop the others, each app's result is reported when all apps are done.
+ */
+class AppsManifestCreator {
+
+    private final Client client;
+    private final Prompter prompter;
+    private final ConsoleOutput out;
+    private final String baseUrl;
+    private final int parallelism;
+    private final AuthorizationServerService authorizationServerService;
+    private final Function<OidcProperties, SetupService> setupServiceFactory;
+
+    AppsManifestCreator(Client client, Prompter prompter, ConsoleOutput out, String baseUrl, int parallelism) {
+        this(client, prompter, out, baseUrl, parallelism, new DefaultAuthorizationServerService(), DefaultSetupService::new);
+    }
+
+    AppsManifestCreator(Client client, Prompter prompter, ConsoleOutput out, String baseUrl, int parallelism,
+                        AuthorizationServerService authorizationServerService,
+                        Function<OidcProperties, SetupService> setupServiceFactory) {
+        this.client = client;
+        this.prompter = prompter;
+        this.out = out;
+        this.baseUrl = baseUrl;
+        this.parallelism = Math.max(1, parallelism);
+        this.authorizationServerService = authorizationServerService;
+        this.setupServiceFactory = setupServiceFactory;
+    }
+
+    int createApps(File manifestFile, String defaultAuthorizationServerId) throws IOException {
+
+        AppsManifest manifest = new AppsManifestParser().parse(manifestFile);
+        File baseDir = manifestFile.getAbsoluteFile().getParentFile();
+        String manifestAuthorizationServerId = Strings.isEmpty(defaultAuthorizationServerId)
+                ? manifest.getAuthorizationServerId()
+                : defaultAuthorizationServerId;
+
+        // resolve everything that could fail (or prompt) before any app is created
+        Map<String, AuthorizationServer> asMap = CommonAppsPrompts.authorizationServers(authorizationServerService, client, manifest.getApps().stream()
+                .map(app -> authorizationServerId(app, manifestAuthorizationServerId))
+                .collect(Collectors.toList()));
+        Map<String, AuthorizationServer> issuers = new HashMap<>();
+        List<AppRequest> requests = new ArrayList<>();
+        Set<File> configFiles = new HashSet<>();
+        for (AppsManifest.App app : manifest.getApps()) {
+            String authorizationServerId = authorizationServerId(app, manifestAuthorizationServerId);
+            AuthorizationServer issuer = issuers.computeIfAbsent(authorizationServerId,
+                    key -> CommonAppsPrompts.getIssuer(asMap, prompter, authorizationServerId));
+            AppRequest request = new AppRequest(app, AppsCreate.QuickTemplate.fromName(app.getTemplate()), issuer, baseDir);
+            if (!configFiles.add(request.configFile.getAbsoluteFile())) {
+                throw new IllegalArgumentException("More than one app in '" + manifestFile + "' writes to: " + request.configFile);
+            }
+            requests.add(request);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, requests.size()));
+        try {
+            List<CompletableFuture<String>> results = requests.stream()
+                    .map(request -> CompletableFuture.supplyAsync(() -> create(request), executor))
+                    .collect(Collectors.toList());
+
+            int failures = 0;
+            for (int ii = 0; ii < requests.size(); ii++) {
+                String appName = requests.get(ii).app.getName();
+                try {
+                    out.writeLine("Created app '" + appName + "', configuration written to: " + results.get(ii).join());
+                } catch (CompletionException e) {
+                    failures++;
+                    Throwable cause = e.getCause();
+                    out.writeError("Failed to create app '" + appName + "': "
+                            + (cause.getMessage() != null ? cause.getMessage() : cause.toString()) + "\n");
+                }
+            }
+            out.writeLine(requests.size() - failures + " of " + requests.size() + " apps created");
+            return failures == 0 ? 0 : 1;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private String create(AppRequest request) {
+        AppsManifest.App app = request.app;
+        MutablePropertySource propertySource = request.propertySource();
+        try {
+            switch (request.template.appType) {
+                case WEB: {
+                    WebAppTemplate template = (WebAppTemplate) request.template.appTemplate;
+                    List<String> redirectUris = orDefault(app.getRedirectUris(), template.getDefaultRedirectUris());
+                    setupServiceFactory.apply(template.getOidcProperties().copy()).createOidcApplication(propertySource, app.getName(), baseUrl,
+                            template.getGroupsClaim(), template.getGroupsToCreate(), request.issuer.getIssuer(), request.issuer.getId(), false,
+                            OpenIdConnectApplicationType.WEB, redirectUris, postLogoutRedirectUris(app, redirectUris, template.getDefaultPostLogoutEndpoint()), client);
+                    break;
+                }
+                case SPA: {
+                    List<String> redirectUris = orDefault(app.getRedirectUris(), List.of(SpaAppTemplate.GENERIC.getDefaultRedirectUri()));
+                    List<String> trustedOrigins = redirectUris.stream().map(URIs::baseUrlOf).collect(Collectors.toList());
+                    setupServiceFactory.apply(OidcProperties.oktaEnv()).createOidcApplication(propertySource, app.getName(), baseUrl,
+                            null, Collections.emptySet(), request.issuer.getIssuer(), request.issuer.getId(), false,
+                            OpenIdConnectApplicationType.BROWSER, redirectUris, postLogoutRedirectUris(app, redirectUris, "/"), trustedOrigins, client);
+                    break;
+                }
+                case NATIVE: {
+                    List<String> redirectUris = orDefault(app.getRedirectUris(), List.of(URIs.reverseDomain(baseUrl) + ":/callback"));
+                    setupServiceFactory.apply(OidcProperties.oktaEnv()).createOidcApplication(propertySource, app.getName(), baseUrl,
+                            null, Collections.emptySet(), request.issuer.getIssuer(), request.issuer.getId(), false,
+                            OpenIdConnectApplicationType.NATIVE, redirectUris, postLogoutRedirectUris(app, redirectUris, "/"), client);
+                    break;
+                }
+                case SERVICE: {
+                    ServiceAppTemplate template = (ServiceAppTemplate) request.template.appTemplate;
+                    setupServiceFactory.apply(template.getOidcProperties().copy()).createOidcApplication(propertySource, app.getName(), baseUrl,
+                            null, Collections.emptySet(), request.issuer.getIssuer(), request.issuer.getId(), false,
+                            OpenIdConnectApplicationType.SERVICE, client);
+                    break;
+                }
+                default:
+                    throw new IllegalStateException("Unsupported AppType: " + request.template.appType);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return propertySource.getName();
+    }
+
+    private static String authorizationServerId(AppsManifest.App app, String defaultAuthorizationServerId) {
+        return Strings.isEmpty(app.getAuthorizationServerId()) ? defaultAuthorizationServerId : app.getAuthorizationServerId();
+    }
+
+    private static List<String> postLogoutRedirectUris(AppsManifest.App app, List<String> redirectUris, String defaultPostLogoutEndpoint) {
+        return orDefault(app.getPostLogoutRedirectUris(), redirectUris.stream()
+                .map(uri -> URIs.resolveUrl(uri, defaultPostLogoutEndpoint))
+                .collect(Collectors.toList()));
+    }
+
+    private static List<String> orDefault(List<String> values, List<String> defaultValues) {
+        return values == null || values.isEmpty() ? defaultValues : values;
+    }
+
+    private static class AppRequest {
+
+        private final AppsManifest.App app;
+        private final AppsCreate.QuickTemplate template;
+        private final AuthorizationServer issuer;
+        private final File configFile;
+
+        AppRequest(AppsManifest.App app, AppsCreate.QuickTemplate template, AuthorizationServer issuer, File baseDir) {
+            this.app = app;
+            this.template = template;
+            this.issuer = issuer;
+            if (Strings.isEmpty(app.getConfigFile())) {
+                this.configFile = new File(new File(baseDir, app.getName()), defaultConfigFileName(template));
+            } else {
+                File file = new File(app.getConfigFile());
+                this.configFile = file.isAbsolute() ? file : new File(baseDir, app.getConfigFile());
+            }
+        }
+
+        MutablePropertySource propertySource() {
+            File parent = configFile.getAbsoluteFile().getParentFile();
+            if (!parent.isDirectory() && !parent.mkdirs()) {
+                throw new UncheckedIOException(new IOException("Failed to create directory: " + parent));
+            }
+            return new ConfigFileLocatorService().findApplicationConfig(parent, configFile);
+        }
+
+        private static String defaultConfigFileName(AppsCreate.QuickTemplate template) {
+            switch (template.appType) {
+                case WEB:
+                    return ((WebAppTemplate) template.appTemplate).getDefaultConfigFileName();
+                case SERVICE:
+                    return ((ServiceAppTemplate) template.appTemplate).getDefaultConfigFileName();
+                default:
+                    // SPA and native apps have no config file when created interactively
+                    return ".okta.env";
+            }
+        }
+    }
+}
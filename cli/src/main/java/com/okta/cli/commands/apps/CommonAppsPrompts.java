@@ -16,12 +16,15 @@
 package com.okta.cli.commands.apps;
 
 import com.okta.cli.common.model.AuthorizationServer;
+import com.okta.cli.common.service.AuthorizationServerService;
 import com.okta.cli.common.service.DefaultAuthorizationServerService;
 import com.okta.cli.console.PromptOption;
 import com.okta.cli.console.Prompter;
 import com.okta.commons.lang.Strings;
 import com.okta.sdk.client.Client;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -33,8 +36,31 @@ public final class CommonAppsPrompts {
     private CommonAppsPrompts() {}
 
     public static AuthorizationServer getIssuer(Client client, Prompter prompter, String authorizationServerId) {
-        Map<String, AuthorizationServer> asMap = new DefaultAuthorizationServerService().authorizationServersMap(client);
+        return getIssuer(authorizationServers(client, Collections.singletonList(authorizationServerId)), prompter, authorizationServerId);
+    }
+
+    /**
+     * Returns the org's authorization servers, the list is fetched again if any of the {@code authorizationServerIds}
+     * are missing from a cached list.
+     */
+    static Map<String, AuthorizationServer> authorizationServers(Client client, Collection<String> authorizationServerIds) {
+        return authorizationServers(new DefaultAuthorizationServerService(), client, authorizationServerIds);
+    }
+
+    static Map<String, AuthorizationServer> authorizationServers(AuthorizationServerService authorizationServerService,
+                                                                 Client client, Collection<String> authorizationServerIds) {
+        Map<String, AuthorizationServer> asMap = authorizationServerService.authorizationServersMap(client);
+
+        boolean missing = authorizationServerIds.stream()
+                .anyMatch(id -> !Strings.isEmpty(id) && !asMap.containsKey(id));
+        if (missing) {
+            // the list may have been cached before the authorization server was created
+            return authorizationServerService.reloadAuthorizationServersMap(client);
+        }
+        return asMap;
+    }
 
+    static AuthorizationServer getIssuer(Map<String, AuthorizationServer> asMap, Prompter prompter, String authorizationServerId) {
         if (!Strings.isEmpty(authorizationServerId)) {
             AuthorizationServer as = asMap.get(authorizationServerId);
             if (as == null) {
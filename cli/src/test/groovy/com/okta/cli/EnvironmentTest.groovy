@@ -0,0 +1,47 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli
+
+import com.okta.sdk.authc.credentials.TokenClientCredentials
+import com.okta.sdk.client.Client
+import org.testng.annotations.Test
+
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.is
+import static org.hamcrest.Matchers.not
+import static org.hamcrest.Matchers.sameInstance
+
+class EnvironmentTest {
+
+    @Test
+    void clientIsSharedUntilReleased() {
+        int builds = 0
+        Environment environment = new Environment().customizeClient {
+            builds++
+            it.setOrgUrl("https://okta.example.com")
+              .setClientCredentials(new TokenClientCredentials("a-token"))
+              .setConnectionTimeout(5)
+        }
+
+        Client client = environment.getClient()
+        assertThat environment.getClient(), sameInstance(client)
+        assertThat builds, is(1)
+
+        environment.releaseClient()
+        assertThat environment.getClient(), not(sameInstance(client))
+        assertThat builds, is(2)
+    }
+}
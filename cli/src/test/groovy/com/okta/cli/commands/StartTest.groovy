@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.commands
+
+import org.testng.annotations.Test
+
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.is
+
+class StartTest {
+
+    @Test
+    void sampleConfigDirAtAnyDepth() {
+        assertThat Start.isInSampleConfigDir(".okta/sample-config.yaml"), is(true)
+        assertThat Start.isInSampleConfigDir("server/.okta/sample-config.yaml"), is(true)
+        assertThat Start.isInSampleConfigDir("server/src/main/resources/application.yml"), is(false)
+        assertThat Start.isInSampleConfigDir("docs/.okta"), is(false)
+        assertThat Start.isInSampleConfigDir("docs/.okta-notes/README.md"), is(false)
+    }
+}
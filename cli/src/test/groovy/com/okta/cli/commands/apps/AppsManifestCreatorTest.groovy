@@ -0,0 +1,190 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.commands.apps
+
+import com.okta.cli.common.config.MutablePropertySource
+import com.okta.cli.common.model.AuthorizationServer
+import com.okta.cli.common.model.OrganizationResponse
+import com.okta.cli.common.model.RegistrationQuestions
+import com.okta.cli.common.service.AuthorizationServerService
+import com.okta.cli.common.service.SetupService
+import com.okta.cli.console.ConsoleOutput
+import com.okta.cli.console.Prompter
+import com.okta.sdk.client.Client
+import com.okta.sdk.impl.ds.InternalDataStore
+import com.okta.sdk.resource.application.OpenIdConnectApplicationType
+import org.testng.annotations.Test
+
+import java.nio.file.Files
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.CyclicBarrier
+import java.util.concurrent.TimeUnit
+
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.containsString
+import static org.hamcrest.Matchers.is
+import static org.mockito.Mockito.mock
+import static org.mockito.Mockito.never
+import static org.mockito.Mockito.times
+import static org.mockito.Mockito.verify
+import static org.mockito.Mockito.when
+
+class AppsManifestCreatorTest {
+
+    @Test
+    void appsAreCreatedConcurrently() {
+        File manifestFile = manifest("appsAreCreatedConcurrently",
+                "authorizationServerId: default\n" +
+                "apps:\n" +
+                "  - name: web-app\n" +
+                "    template: web\n" +
+                "  - name: spa-app\n" +
+                "    template: spa\n" +
+                "    authorizationServerId: aus-other\n" +
+                "  - name: service-app\n" +
+                "    template: service\n")
+        Client client = mock(Client)
+        ConsoleOutput out = mock(ConsoleOutput)
+        AuthorizationServerService asService = authorizationServerService(client)
+        // each app waits for the others, this only completes if all three are created at the same time
+        RecordingSetupService setupService = new RecordingSetupService(new CyclicBarrier(3))
+
+        int result = new AppsManifestCreator(client, mock(Prompter), out, "https://okta.example.com", 3, asService, { setupService })
+                .createApps(manifestFile, null)
+
+        assertThat result, is(0)
+        assertThat setupService.issuers, is([
+                "web-app": "https://okta.example.com/oauth2/default",
+                "spa-app": "https://okta.example.com/oauth2/aus-other",
+                "service-app": "https://okta.example.com/oauth2/default"])
+        assertThat setupService.appTypes, is([
+                "web-app": OpenIdConnectApplicationType.WEB,
+                "spa-app": OpenIdConnectApplicationType.BROWSER,
+                "service-app": OpenIdConnectApplicationType.SERVICE])
+
+        // each app's config is written to a directory next to the manifest
+        File baseDir = manifestFile.parentFile
+        assertThat new File(baseDir, "spa-app/.okta.env").text, containsString("client-id-spa-app")
+        verify(out).writeLine("Created app 'spa-app', configuration written to: " + new File(baseDir, "spa-app/.okta.env").absolutePath)
+        verify(out).writeLine("3 of 3 apps created")
+
+        // the authorization servers are listed once for all apps
+        verify(asService, times(1)).authorizationServersMap(client)
+        verify(asService, never()).reloadAuthorizationServersMap(client)
+    }
+
+    @Test
+    void failedAppIsReported() {
+        File manifestFile = manifest("failedAppIsReported",
+                "apps:\n" +
+                "  - name: broken\n" +
+                "    template: service\n" +
+                "  - name: working\n" +
+                "    template: service\n")
+        Client client = mock(Client)
+        ConsoleOutput out = mock(ConsoleOutput)
+        RecordingSetupService setupService = new RecordingSetupService(null)
+
+        int result = new AppsManifestCreator(client, mock(Prompter), out, "https://okta.example.com", 2, authorizationServerService(client), { setupService })
+                .createApps(manifestFile, "default")
+
+        assertThat result, is(1)
+        assertThat setupService.issuers.keySet(), is(["broken", "working"] as Set)
+        verify(out).writeError("Failed to create app 'broken': expected test exception\n")
+        verify(out).writeLine("Created app 'working', configuration written to: " + new File(manifestFile.parentFile, "working/.okta.env").absolutePath)
+        verify(out).writeLine("1 of 2 apps created")
+    }
+
+    @Test
+    void duplicateConfigFilesAreRejected() {
+        File manifestFile = manifest("duplicateConfigFilesAreRejected",
+                "apps:\n" +
+                "  - name: one\n" +
+                "    template: service\n" +
+                "    configFile: shared/.okta.env\n" +
+                "  - name: two\n" +
+                "    template: spa\n" +
+                "    configFile: shared/.okta.env\n")
+        Client client = mock(Client)
+        RecordingSetupService setupService = new RecordingSetupService(null)
+
+        try {
+            new AppsManifestCreator(client, mock(Prompter), mock(ConsoleOutput), "https://okta.example.com", 2, authorizationServerService(client), { setupService })
+                    .createApps(manifestFile, "default")
+            assert false : "Expected IllegalArgumentException"
+        } catch (IllegalArgumentException e) {
+            assertThat e.message, containsString("More than one app")
+        }
+
+        // nothing was created
+        assertThat setupService.issuers.isEmpty(), is(true)
+    }
+
+    private static AuthorizationServerService authorizationServerService(Client client) {
+        AuthorizationServerService asService = mock(AuthorizationServerService)
+        InternalDataStore dataStore = mock(InternalDataStore)
+        when(asService.authorizationServersMap(client)).thenReturn([
+                "default"  : new AuthorizationServer(dataStore, [id: "default", name: "default", issuer: "https://okta.example.com/oauth2/default"]),
+                "aus-other": new AuthorizationServer(dataStore, [id: "aus-other", name: "other", issuer: "https://okta.example.com/oauth2/aus-other"])])
+        return asService
+    }
+
+    private static File manifest(String testName, String content) {
+        File manifestFile = Files.createTempDirectory(testName).resolve("apps.yaml").toFile()
+        manifestFile.text = content
+        return manifestFile
+    }
+
+    /**
+     * Records the apps created, the app named {@code broken} fails.
+     */
+    static class RecordingSetupService implements SetupService {
+
+        private final CyclicBarrier barrier
+        final Map<String, String> issuers = new ConcurrentHashMap<>()
+        final Map<String, OpenIdConnectApplicationType> appTypes = new ConcurrentHashMap<>()
+
+        RecordingSetupService(CyclicBarrier barrier) {
+            this.barrier = barrier
+        }
+
+        @Override
+        OrganizationResponse createOktaOrg(RegistrationQuestions registrationQuestions, File oktaPropsFile, boolean demo, boolean interactive) {
+            throw new UnsupportedOperationException()
+        }
+
+        @Override
+        void verifyOktaOrg(String identifier, RegistrationQuestions registrationQuestions, File oktaPropsFile) {
+            throw new UnsupportedOperationException()
+        }
+
+        @Override
+        void createOidcApplication(MutablePropertySource propertySource, String oidcAppName, String orgUrl, String groupClaimName,
+                                   Set<String> groupsToCreate, String issuerUri, String authorizationServerId, boolean interactive,
+                                   OpenIdConnectApplicationType appType, List<String> redirectUris, List<String> postLogoutRedirectUris,
+                                   List<String> trustedOrigins, Client client) throws IOException {
+            issuers.put(oidcAppName, issuerUri)
+            appTypes.put(oidcAppName, appType)
+            if (barrier != null) {
+                barrier.await(10, TimeUnit.SECONDS)
+            }
+            if (oidcAppName == "broken") {
+                throw new IllegalStateException("expected test exception")
+            }
+            propertySource.addProperties(["okta.oauth2.client-id": "client-id-" + oidcAppName])
+        }
+    }
+}
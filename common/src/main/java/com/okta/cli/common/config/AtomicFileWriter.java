@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.config;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Replaces a file in a single step, the content is written to a temp file in the same directory, synced to disk, and
+ * then renamed over the target file. If the CLI fails part way through, the original file is left unchanged.
+ */
+final class AtomicFileWriter {
+
+    private AtomicFileWriter() {}
+
+    static void write(File file, Content content) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (!(parent.exists() || parent.mkdirs())) {
+            throw new IOException("Could not create directory: " + parent.getAbsolutePath());
+        }
+
+        // java.io.File creates the temp file with the default permissions, unlike Files.createTempFile()
+        Path tempFile = File.createTempFile("." + file.getName() + "-", ".tmp", parent).toPath();
+        try {
+            try (FileOutputStream out = new FileOutputStream(tempFile.toFile());
+                 Writer writer = new OutputStreamWriter(out, UTF_8)) {
+                content.write(writer);
+                writer.flush();
+                out.getFD().sync();
+            }
+            copyPermissions(file.toPath(), tempFile);
+            move(tempFile, file.toPath());
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        PosixFileAttributeView sourceView = Files.getFileAttributeView(source, PosixFileAttributeView.class);
+        if (sourceView != null && Files.exists(source)) {
+            Files.getFileAttributeView(target, PosixFileAttributeView.class)
+                    .setPermissions(sourceView.readAttributes().permissions());
+        }
+    }
+
+    private static void move(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    @FunctionalInterface
+    interface Content {
+        void write(Writer writer) throws IOException;
+    }
+}
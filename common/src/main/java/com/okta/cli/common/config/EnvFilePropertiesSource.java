@@ -22,13 +22,14 @@ import com.okta.commons.lang.Strings;
 import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
+import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
 import static java.nio.charset.StandardCharsets.UTF_8;
 
@@ -37,12 +38,23 @@ import static java.nio.charset.StandardCharsets.UTF_8;
  * <pre><code>
  * export KEY=value
  * </code></pre>
+ * The parsed entries are cached, and only re-read when the file's size or modification time changes, or after it has
+ * been written by this class.
  * @since 0.3.0
  */
 public class EnvFilePropertiesSource implements MutablePropertySource {
 
+    private static final Pattern KEY_SEPARATORS = Pattern.compile("[-.]");
+
+    /**
+     * Converted keys, the same few keys are looked up in every env file.
+     */
+    private static final Map<String, String> UPPER_UNDERSCORE_KEYS = new ConcurrentHashMap<>();
+
     private final File envFile;
 
+    private Snapshot snapshot;
+
     public EnvFilePropertiesSource(File envFile) {
         this.envFile = envFile;
     }
@@ -53,7 +65,12 @@ public class EnvFilePropertiesSource implements MutablePropertySource {
     }
 
     @Override
-    public void addProperties(Map<String, String> properties) throws IOException {
+    public Optional<File> getFile() {
+        return Optional.of(envFile);
+    }
+
+    @Override
+    public synchronized void addProperties(Map<String, String> properties) throws IOException {
 
         Map<String, String> allProperties = new LinkedHashMap<>(getProperties()); // start with existing properties
         properties.forEach((key, value) -> {
@@ -61,11 +78,13 @@ public class EnvFilePropertiesSource implements MutablePropertySource {
             allProperties.put(upperKey, value);
         });
 
-        try(Writer writer = new OutputStreamWriter(new FileOutputStream(envFile), UTF_8)) {
+        // the file is re-read on the next lookup
+        snapshot = null;
+        AtomicFileWriter.write(envFile, writer -> {
             for(Map.Entry<String, String> entry : allProperties.entrySet()) {
                 writer.write("export "+ entry.getKey() + "=\"" + entry.getValue() + "\"\n");
             }
-        }
+        });
     }
 
     @Override
@@ -75,7 +94,17 @@ public class EnvFilePropertiesSource implements MutablePropertySource {
     }
 
     @Override
-    public Map<String, String> getProperties() {
+    public synchronized Map<String, String> getProperties() {
+        // a missing file has a size and modification time of 0
+        long size = envFile.length();
+        long lastModified = envFile.lastModified();
+        if (snapshot == null || snapshot.size != size || snapshot.lastModified != lastModified) {
+            snapshot = new Snapshot(size, lastModified, Collections.unmodifiableMap(parse()));
+        }
+        return snapshot.properties;
+    }
+
+    private Map<String, String> parse() {
 
         Map<String, String> result = new LinkedHashMap<>();
         if (envFile.exists()) {
@@ -112,8 +141,21 @@ public class EnvFilePropertiesSource implements MutablePropertySource {
         return value;
     }
 
-    private String dottedCamelToUpperUnderscore(String value) {
-        return CaseFormat.LOWER_CAMEL.to(CaseFormat.UPPER_UNDERSCORE, value)
-                .replaceAll("[-\\.]", "_");
+    private static String dottedCamelToUpperUnderscore(String value) {
+        return UPPER_UNDERSCORE_KEYS.computeIfAbsent(value, key ->
+                KEY_SEPARATORS.matcher(CaseFormat.LOWER_CAMEL.to(CaseFormat.UPPER_UNDERSCORE, key)).replaceAll("_"));
+    }
+
+    private static class Snapshot {
+
+        private final long size;
+        private final long lastModified;
+        private final Map<String, String> properties;
+
+        Snapshot(long size, long lastModified, Map<String, String> properties) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.properties = properties;
+        }
     }
 }
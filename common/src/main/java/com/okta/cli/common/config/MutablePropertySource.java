@@ -17,8 +17,10 @@ package com.okta.cli.common.config;
 
 import com.okta.sdk.impl.config.PropertiesSource;
 
+import java.io.File;
 import java.io.IOException;
 import java.util.Map;
+import java.util.Optional;
 
 public interface MutablePropertySource extends PropertiesSource {
 
@@ -27,4 +29,11 @@ public interface MutablePropertySource extends PropertiesSource {
     void addProperties(Map<String, String> properties) throws IOException;
 
     String getProperty(String key);
+
+    /**
+     * Returns the file this source reads and writes, or empty if the properties are only kept in memory.
+     */
+    default Optional<File> getFile() {
+        return Optional.empty();
+    }
 }
@@ -21,8 +21,8 @@ import nu.studer.java.util.OrderedProperties;
 
 import java.io.File;
 import java.io.IOException;
-import java.io.Writer;
 import java.util.Map;
+import java.util.Optional;
 
 public class PropertiesFilePropertiesSource extends WrappedMutablePropertiesSource {
 
@@ -38,6 +38,11 @@ public class PropertiesFilePropertiesSource extends WrappedMutablePropertiesSour
         return propertiesFile.getAbsolutePath();
     }
 
+    @Override
+    public Optional<File> getFile() {
+        return Optional.of(propertiesFile);
+    }
+
     @Override
     public void addProperties(Map<String, String> newProperties) throws IOException {
 
@@ -51,8 +56,6 @@ public class PropertiesFilePropertiesSource extends WrappedMutablePropertiesSour
                 .filter(entry -> entry.getValue() != null)
                 .forEach(entry -> existingProps.setProperty(entry.getKey(), entry.getValue()));
 
-        try (Writer writer = fileWriter(propertiesFile)) {
-            existingProps.store(writer, null);
-        }
+        AtomicFileWriter.write(propertiesFile, writer -> existingProps.store(writer, null));
     }
 }
\ No newline at end of file
@@ -20,12 +20,6 @@ import com.okta.commons.lang.Strings;
 import com.okta.sdk.impl.config.OptionalPropertiesSource;
 import com.okta.sdk.impl.config.PropertiesSource;
 
-import java.io.File;
-import java.io.FileOutputStream;
-import java.io.IOException;
-import java.io.OutputStreamWriter;
-import java.io.Writer;
-import java.nio.charset.StandardCharsets;
 import java.util.Map;
 
 abstract class WrappedMutablePropertiesSource implements MutablePropertySource {
@@ -52,12 +46,4 @@ abstract class WrappedMutablePropertiesSource implements MutablePropertySource {
         }
         return result;
     }
-
-    Writer fileWriter(File file) throws IOException {
-        File parent = file.getParentFile();
-        if (!(parent.exists() || file.getParentFile().mkdirs())) {
-            throw new IOException("Could not create directory: " + parent.getAbsolutePath());
-        }
-        return new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8);
-    }
 }
\ No newline at end of file
@@ -0,0 +1,249 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.SafeConstructor;
+import org.yaml.snakeyaml.nodes.MappingNode;
+import org.yaml.snakeyaml.nodes.Node;
+import org.yaml.snakeyaml.nodes.NodeTuple;
+import org.yaml.snakeyaml.nodes.ScalarNode;
+import org.yaml.snakeyaml.nodes.SequenceNode;
+import org.yaml.snakeyaml.representer.Representer;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Adds properties to a YAML document by editing its text, instead of dumping the whole document again, so comments,
+ * formatting, and key order are kept. Only the changed scalars are replaced, and missing keys are inserted at the end
+ * of the deepest existing block mapping, for example, adding {@code okta.oauth2.issuer} to:
+ * <pre><code>
+ * # the okta config
+ * okta:
+ *   oauth2:
+ *     client-id: an-id # a comment
+ * </code></pre>
+ * inserts {@code issuer} after {@code client-id}, and leaves the rest of the text unchanged.
+ * <p>
+ * Documents that cannot be edited safely (flow style mappings, replacing a mapping with a scalar, anchors, etc)
+ * are not patched, the patched text is parsed again and must match the expected properties.
+ */
+@Slf4j
+final class YamlPatcher {
+
+    private static final int DEFAULT_INDENT = 2;
+
+    private YamlPatcher() {}
+
+    /**
+     * Returns the patched text, or null if the text could not be patched, in which case the caller should dump the
+     * expected properties instead.
+     * @param text the original YAML document
+     * @param properties the properties to add, the keys are split on {@code .}
+     * @param expected the document's content after adding the properties
+     */
+    static String patch(String text, Map<String, String> properties, Map<String, Object> expected) {
+        try {
+            String result = applyEdits(text, properties);
+            if (result != null && expected.equals(loader().load(result))) {
+                return result;
+            }
+            log.debug("Unable to patch yaml, it will be rewritten");
+        } catch (RuntimeException e) {
+            log.debug("Unable to patch yaml, it will be rewritten", e);
+        }
+        return null;
+    }
+
+    private static String applyEdits(String text, Map<String, String> properties) {
+        Node root = loader().compose(new StringReader(text));
+        if (!isBlockMapping(root)) {
+            return null;
+        }
+
+        Map<ScalarNode, String> replacements = new IdentityHashMap<>();
+        Map<MappingNode, Map<String, Object>> insertions = new IdentityHashMap<>();
+
+        for (Map.Entry<String, String> property : properties.entrySet()) {
+            String[] keyParts = property.getKey().split("\\.");
+            MappingNode mapping = (MappingNode) root;
+            for (int ii = 0; ii < keyParts.length; ii++) {
+                Node value = findValue(mapping, keyParts[ii]);
+                if (value == null) {
+                    // add the remaining keys as a subtree
+                    Map<String, Object> subtree = insertions.computeIfAbsent(mapping, key -> new LinkedHashMap<>());
+                    for (int jj = ii; jj < keyParts.length - 1; jj++) {
+                        subtree = childMap(subtree, keyParts[jj]);
+                    }
+                    subtree.put(keyParts[keyParts.length - 1], property.getValue());
+                    break;
+                } else if (ii == keyParts.length - 1) {
+                    if (!(value instanceof ScalarNode)) {
+                        return null;
+                    }
+                    replacements.put((ScalarNode) value, property.getValue());
+                } else if (isBlockMapping(value)) {
+                    mapping = (MappingNode) value;
+                } else {
+                    return null;
+                }
+            }
+        }
+
+        String newLine = text.contains("\r\n") ? "\r\n" : "\n";
+        int indent = indent((MappingNode) root);
+        List<Edit> edits = new ArrayList<>();
+        for (Map.Entry<ScalarNode, String> replacement : replacements.entrySet()) {
+            ScalarNode node = replacement.getKey();
+            int start = node.getStartMark().getIndex();
+            int end = node.getEndMark().getIndex();
+            // block scalars end after the line break
+            String suffix = end > start && text.charAt(end - 1) == '\n' ? newLine : "";
+            edits.add(new Edit(start, end, 0, scalar(replacement.getValue()) + suffix));
+        }
+        for (Map.Entry<MappingNode, Map<String, Object>> insertion : insertions.entrySet()) {
+            MappingNode mapping = insertion.getKey();
+            List<String> lines = new ArrayList<>();
+            int column = mapping.getValue().get(0).getKeyNode().getStartMark().getColumn();
+            render(insertion.getValue(), column, indent, lines);
+
+            int contentEnd = contentEnd(mapping);
+            if (contentEnd > 0 && text.charAt(contentEnd - 1) == '\n') {
+                edits.add(new Edit(contentEnd, contentEnd, column, String.join(newLine, lines) + newLine));
+            } else {
+                // after any comment on the same line
+                int lineEnd = text.indexOf('\n', contentEnd);
+                if (lineEnd < 0) {
+                    lineEnd = text.length();
+                } else if (lineEnd > 0 && text.charAt(lineEnd - 1) == '\r') {
+                    lineEnd--;
+                }
+                edits.add(new Edit(lineEnd, lineEnd, column, newLine + String.join(newLine, lines)));
+            }
+        }
+
+        // apply the edits from the end of the text, so the earlier offsets are not shifted, nested mappings can end at
+        // the same offset as their parents, the outer mapping's keys are inserted first so they end up after the
+        // nested mapping's keys
+        edits.sort(Comparator.comparingInt((Edit edit) -> edit.start).reversed()
+                .thenComparingInt(edit -> edit.column));
+        StringBuilder result = new StringBuilder(text);
+        for (Edit edit : edits) {
+            result.replace(edit.start, edit.end, edit.text);
+        }
+        return result.toString();
+    }
+
+    private static Node findValue(MappingNode mapping, String key) {
+        for (NodeTuple tuple : mapping.getValue()) {
+            Node keyNode = tuple.getKeyNode();
+            if (keyNode instanceof ScalarNode && key.equals(((ScalarNode) keyNode).getValue())) {
+                return tuple.getValueNode();
+            }
+        }
+        return null;
+    }
+
+    private static boolean isBlockMapping(Node node) {
+        // the indentation of new keys is taken from the existing ones
+        return node instanceof MappingNode
+                && ((MappingNode) node).getFlowStyle() == DumperOptions.FlowStyle.BLOCK
+                && !((MappingNode) node).getValue().isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> childMap(Map<String, Object> map, String key) {
+        return (Map<String, Object>) map.computeIfAbsent(key, k -> new LinkedHashMap<String, Object>());
+    }
+
+    private static int contentEnd(Node node) {
+        if (node instanceof MappingNode && !((MappingNode) node).getValue().isEmpty()) {
+            List<NodeTuple> tuples = ((MappingNode) node).getValue();
+            return contentEnd(tuples.get(tuples.size() - 1).getValueNode());
+        }
+        if (node instanceof SequenceNode && !((SequenceNode) node).getValue().isEmpty()) {
+            List<Node> items = ((SequenceNode) node).getValue();
+            return contentEnd(items.get(items.size() - 1));
+        }
+        return node.getEndMark().getIndex();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void render(Map<String, Object> subtree, int column, int indent, List<String> lines) {
+        String prefix = " ".repeat(column);
+        subtree.forEach((key, value) -> {
+            if (value instanceof Map) {
+                lines.add(prefix + scalar(key) + ":");
+                render((Map<String, Object>) value, column + indent, indent, lines);
+            } else {
+                lines.add(prefix + scalar(key) + ": " + scalar((String) value));
+            }
+        });
+    }
+
+    /**
+     * The indentation used by the document, taken from the first nested block mapping.
+     */
+    private static int indent(MappingNode root) {
+        int rootColumn = root.getValue().get(0).getKeyNode().getStartMark().getColumn();
+        return root.getValue().stream()
+                .map(NodeTuple::getValueNode)
+                .filter(YamlPatcher::isBlockMapping)
+                .map(node -> ((MappingNode) node).getValue().get(0).getKeyNode().getStartMark().getColumn() - rootColumn)
+                .filter(column -> column > 0)
+                .findFirst()
+                .orElse(DEFAULT_INDENT);
+    }
+
+    private static String scalar(String value) {
+        // let SnakeYAML decide if the value needs to be quoted
+        DumperOptions options = new DumperOptions();
+        options.setSplitLines(false);
+        String result = new Yaml(options).dump(value).trim();
+        if (result.contains("\n")) {
+            throw new IllegalArgumentException("Multi-line values are not supported");
+        }
+        return result;
+    }
+
+    private static Yaml loader() {
+        return new Yaml(new SafeConstructor(new LoaderOptions()), new Representer(new DumperOptions()));
+    }
+
+    private static class Edit {
+
+        private final int start;
+        private final int end;
+        private final int column;
+        private final String text;
+
+        Edit(int start, int end, int column, String text) {
+            this.start = start;
+            this.end = end;
+            this.column = column;
+            this.text = text;
+        }
+    }
+}
@@ -21,26 +21,31 @@ import com.okta.sdk.impl.io.FileResource;
 import org.yaml.snakeyaml.DumperOptions;
 import org.yaml.snakeyaml.LoaderOptions;
 import org.yaml.snakeyaml.Yaml;
-import org.yaml.snakeyaml.constructor.Constructor;
 import org.yaml.snakeyaml.constructor.SafeConstructor;
 import org.yaml.snakeyaml.representer.Representer;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.Reader;
-import java.io.Writer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Optional;
 
+/**
+ * A property source for YAML files, e.g. a Spring {@code application.yml}. The parsed file is cached, and only
+ * re-parsed when the file's size or modification time changes, or after it has been written by this class. New
+ * properties are added by editing the existing text when possible, see {@link YamlPatcher}.
+ */
 public class YamlPropertiesSource extends WrappedMutablePropertiesSource {
 
     private final File yamlFile;
 
+    private Snapshot snapshot;
+
     public YamlPropertiesSource(File yamlFile) {
         super(new YAMLPropertiesSource(new FileResource(yamlFile.getAbsolutePath())));
         this.yamlFile = yamlFile;
@@ -52,20 +57,16 @@ public class YamlPropertiesSource extends WrappedMutablePropertiesSource {
     }
 
     @Override
-    public void addProperties(Map<String, String> properties) throws IOException {
+    public Optional<File> getFile() {
+        return Optional.of(yamlFile);
+    }
 
-        Yaml springAppYaml = new Yaml(new SafeConstructor(new LoaderOptions()), new Representer(yamlOptions()));
-        Map<String, Object> existingProperties = new HashMap<>();
-        if (yamlFile.exists()) {
-            try (Reader reader = new InputStreamReader(new FileInputStream(yamlFile), StandardCharsets.UTF_8)) {
-                Map<? extends String,?> loadedProperties = springAppYaml.load(reader);
+    @Override
+    public synchronized void addProperties(Map<String, String> properties) throws IOException {
 
-                // null if the file is empty
-                if (loadedProperties != null) {
-                    existingProperties.putAll(loadedProperties);
-                }
-            }
-        }
+        // the cached tree is shared, copy it before adding the new properties
+        Snapshot existing = load();
+        Map<String, Object> existingProperties = deepCopy(existing.tree);
 
         // Break up each property key and traverse the tree (add nodes were needed)
         properties.forEach((key, value) -> {
@@ -89,38 +90,60 @@ public class YamlPropertiesSource extends WrappedMutablePropertiesSource {
             }
         });
 
-        // now write the file
-        File parentDir = yamlFile.getParentFile();
-        if (!(parentDir.exists() || parentDir.mkdirs())) {
-            throw new IOException("Unable to create directory: "+ parentDir.getAbsolutePath());
-        }
-        try (Writer writer = fileWriter(yamlFile)) {
-            springAppYaml.dump(existingProperties, writer);
+        // now write the file, the file is re-read on the next lookup
+        snapshot = null;
+
+        // edit the existing text if possible, to keep any comments and formatting
+        String patched = existing.tree.isEmpty()
+                ? null
+                : YamlPatcher.patch(existing.text, properties, existingProperties);
+        if (patched != null) {
+            AtomicFileWriter.write(yamlFile, writer -> writer.write(patched));
+        } else {
+            AtomicFileWriter.write(yamlFile, writer -> yaml().dump(existingProperties, writer));
         }
     }
 
     @Override
-    public Map<String, String> getProperties() {
-        Map<String, Object> existingProperties;
-
+    public synchronized Map<String, String> getProperties() {
         try {
-            Yaml springAppYaml = new Yaml(new Constructor(Map.class, new LoaderOptions()), new Representer(yamlOptions()));
-            existingProperties = new HashMap<>();
-            if (yamlFile.exists()) {
-                try (Reader reader = new InputStreamReader(new FileInputStream(yamlFile), StandardCharsets.UTF_8)) {
-                    Map<? extends String, Object> loadedProperties = springAppYaml.load(reader);
-
-                    // null if the file is empty
-                    if (loadedProperties != null) {
-                        existingProperties.putAll(loadedProperties);
-                    }
-                }
-            }
+            return load().flattened;
         } catch (IOException e) {
             throw new IllegalArgumentException("Unable to read yaml [" + this.yamlFile + "]: " + e.getMessage(), e);
         }
+    }
 
-        return getFlattenedMap(existingProperties);
+    private Snapshot load() throws IOException {
+        // a missing file has a size and modification time of 0
+        long size = yamlFile.length();
+        long lastModified = yamlFile.lastModified();
+        if (snapshot == null || snapshot.size != size || snapshot.lastModified != lastModified) {
+            String text = yamlFile.exists()
+                    ? Files.readString(yamlFile.toPath(), StandardCharsets.UTF_8)
+                    : "";
+            snapshot = new Snapshot(size, lastModified, text, parse(text));
+        }
+        return snapshot;
+    }
+
+    private static Map<String, Object> parse(String text) {
+        Map<String, Object> existingProperties = new LinkedHashMap<>();
+        Map<? extends String, Object> loadedProperties = yaml().load(text);
+
+        // null if the file is empty
+        if (loadedProperties != null) {
+            existingProperties.putAll(loadedProperties);
+        }
+        return existingProperties;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> deepCopy(Map<String, Object> source) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        source.forEach((key, value) -> result.put(key, value instanceof Map
+                ? deepCopy((Map<String, Object>) value)
+                : value));
+        return result;
     }
 
     /**
@@ -172,10 +195,31 @@ public class YamlPropertiesSource extends WrappedMutablePropertiesSource {
         }
     }
 
+    private static Yaml yaml() {
+        return new Yaml(new SafeConstructor(new LoaderOptions()), new Representer(yamlOptions()));
+    }
+
     private static DumperOptions yamlOptions() {
         DumperOptions options = new DumperOptions();
         options.setDefaultFlowStyle(DumperOptions.FlowStyle.BLOCK);
         options.setPrettyFlow(true);
         return options;
     }
+
+    private static class Snapshot {
+
+        private final long size;
+        private final long lastModified;
+        private final String text;
+        private final Map<String, Object> tree;
+        private final Map<String, String> flattened;
+
+        Snapshot(long size, long lastModified, String text, Map<String, Object> tree) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.text = text;
+            this.tree = tree;
+            this.flattened = Collections.unmodifiableMap(getFlattenedMap(tree));
+        }
+    }
 }
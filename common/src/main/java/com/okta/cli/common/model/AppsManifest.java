@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.model;
+
+import lombok.Data;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A list of OIDC applications to create in a single run, see {@code okta apps create --from <file>}.
+ */
+@Data
+public class AppsManifest {
+
+    /**
+     * The default Authorization Server for all apps.
+     */
+    private String authorizationServerId;
+
+    private List<App> apps = new ArrayList<>();
+
+    @Data
+    public static class App {
+
+        private String name;
+
+        /**
+         * The app template, one of the {@code okta apps create} templates, e.g. {@code spring-boot}, {@code spa},
+         * {@code native}, or {@code jhipster-service}.
+         */
+        private String template;
+
+        private List<String> redirectUris;
+        private List<String> postLogoutRedirectUris;
+        private String authorizationServerId;
+
+        /**
+         * The file the app's configuration is written to, relative to the manifest, defaults to the template's config
+         * file in a directory named after the app.
+         */
+        private String configFile;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * Records the files filtered in a sample project, so unchanged files can be skipped the next time the project is
+ * filtered. Stored as JSON in the project's {@code .okta} directory.
+ */
+@Data
+@Accessors(chain = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class InterpolationManifest {
+
+    private int version = 1;
+
+    /**
+     * SHA-256 hashes of the context values used, by key. Only hashes are stored, some values are secrets.
+     */
+    private Map<String, String> context = new TreeMap<>();
+
+    /**
+     * The filtered files, by path relative to the project root.
+     */
+    private Map<String, FileEntry> files = new TreeMap<>();
+
+    @Data
+    @Accessors(chain = true)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    public static class FileEntry {
+
+        private long size;
+        private long lastModified;
+
+        /**
+         * SHA-256 hash of the file's content after filtering, not set for binary files.
+         */
+        private String hash;
+
+        private boolean binary;
+
+        /**
+         * Placeholders left in the file after filtering, because the context did not contain a value for them.
+         */
+        private Set<String> placeholders = new TreeSet<>();
+    }
+}
@@ -101,6 +101,12 @@ public abstract class OidcProperties {
 
     abstract Map<String, String> getOidcClientProperties();
 
+    /**
+     * Returns a new instance with the same property names, but none of the values, e.g. to configure several
+     * applications from the same template concurrently.
+     */
+    public abstract OidcProperties copy();
+
     public Map<String, String> getProperties() {
         Map<String, String> properties = new LinkedHashMap<>();
         properties.put(issuerUriPropertyName, issuerUri);
@@ -112,12 +118,20 @@ public abstract class OidcProperties {
     }
 
     public static class SpringOidcProperties extends OidcProperties {
+        private final String tenantId;
+
         public SpringOidcProperties(String tenantId) {
             super(
                     format("spring.security.oauth2.client.provider.%s.issuer-uri", tenantId),
                     format("spring.security.oauth2.client.registration.%s.client-id", tenantId),
                     format("spring.security.oauth2.client.registration.%s.client-secret", tenantId)
             );
+            this.tenantId = tenantId;
+        }
+
+        @Override
+        public SpringOidcProperties copy() {
+            return new SpringOidcProperties(tenantId);
         }
 
         @Override
@@ -135,6 +149,11 @@ public abstract class OidcProperties {
             );
         }
 
+        @Override
+        public OktaEnvOidcProperties copy() {
+            return new OktaEnvOidcProperties();
+        }
+
         @Override
         Map<String, String> getOidcClientProperties() {
             return Collections.emptyMap();
@@ -155,6 +174,11 @@ public abstract class OidcProperties {
             this.jhipster = jhipster;
         }
 
+        @Override
+        public QuarkusOidcProperties copy() {
+            return new QuarkusOidcProperties(applicationType, jhipster);
+        }
+
         @Override
         Map<String, String> getOidcClientProperties() {
             if (applicationType == OpenIdConnectApplicationType.WEB) {
@@ -182,6 +206,7 @@ public abstract class OidcProperties {
 
     public static class MicronautOidcProperties extends OidcProperties {
 
+        private final String tenantId;
         private final OpenIdConnectApplicationType applicationType;
 
         public MicronautOidcProperties(String tenantId, OpenIdConnectApplicationType applicationType) {
@@ -190,9 +215,15 @@ public abstract class OidcProperties {
                 format("micronaut.security.oauth2.clients.%s.client-id", tenantId),
                 format("micronaut.security.oauth2.clients.%s.client-secret", tenantId)
             );
+            this.tenantId = tenantId;
             this.applicationType = applicationType;
         }
 
+        @Override
+        public MicronautOidcProperties copy() {
+            return new MicronautOidcProperties(tenantId, applicationType);
+        }
+
         @Override
         Map<String, String> getOidcClientProperties() {
             if (applicationType == OpenIdConnectApplicationType.WEB) {
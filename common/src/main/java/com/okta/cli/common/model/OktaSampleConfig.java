@@ -33,6 +33,16 @@ public class OktaSampleConfig {
     private String directions;
     private List<String> trustedOrigins;
 
+    /**
+     * Globs of the files that contain placeholders, if empty all files are filtered.
+     */
+    private List<String> include;
+
+    /**
+     * Globs of the files and directories that are never filtered, see {@code SampleFileFilter}.
+     */
+    private List<String> exclude;
+
     public OAuthClient getOAuthClient() {
         return oauthClient;
     }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.model;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Data;
+import lombok.experimental.Accessors;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Records the remote steps completed while setting up an OIDC application, so an interrupted setup can be resumed
+ * without repeating them. Stored as JSON in {@code ~/.okta/setup-journal}, and removed once the setup completes.
+ */
+@Data
+@Accessors(chain = true)
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class SetupJournal {
+
+    private int version = 1;
+
+    private String orgUrl;
+
+    private String appName;
+
+    /**
+     * The absolute path of the config file the client ID was written to.
+     */
+    private String configFile;
+
+    /**
+     * The client ID of the application created, the client secret is NOT stored.
+     */
+    private String clientId;
+
+    /**
+     * The completed steps, e.g. {@code group:admins}.
+     */
+    private Set<String> completedSteps = new TreeSet<>();
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service;
+
+import org.apache.http.Header;
+import org.apache.http.HttpEntity;
+import org.apache.http.client.methods.CloseableHttpResponse;
+import org.apache.http.client.methods.HttpGet;
+import org.apache.http.client.methods.HttpPost;
+import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.StringEntity;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link HttpTransport} backed by the shared {@link PooledHttpClient}. The Apache client is blocking, so async
+ * requests are executed on a small pool of daemon threads, one per pooled connection; requests beyond that are queued.
+ */
+class ApacheHttpTransport implements HttpTransport {
+
+    private static final ExecutorService ASYNC_EXECUTOR = createExecutor(Settings.getHttpMaxConnections());
+
+    @Override
+    public Response execute(Request request) throws IOException {
+
+        CloseableHttpResponse response = PooledHttpClient.get().execute(toHttpRequest(request));
+
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (Header header : response.getAllHeaders()) {
+            headers.computeIfAbsent(header.getName(), key -> new ArrayList<>()).add(header.getValue());
+        }
+
+        HttpEntity entity = response.getEntity();
+        InputStream content = entity != null
+                ? entity.getContent()
+                : InputStream.nullInputStream();
+
+        return new Response(response.getStatusLine().getStatusCode(), headers, new ReleasingInputStream(content, response));
+    }
+
+    @Override
+    public CompletableFuture<Response> executeAsync(Request request) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return execute(request);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, ASYNC_EXECUTOR);
+    }
+
+    private static ExecutorService createExecutor(int threads) {
+        // more threads than connections would only wait for a connection, idle threads are released
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), runnable -> {
+            Thread thread = new Thread(runnable, "okta-cli-http-async");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    private static HttpUriRequest toHttpRequest(Request request) {
+        HttpUriRequest httpRequest;
+        if ("POST".equals(request.getMethod())) {
+            HttpPost post = new HttpPost(request.getUrl());
+            post.setEntity(new StringEntity(request.getBody(), StandardCharsets.UTF_8));
+            httpRequest = post;
+        } else {
+            httpRequest = new HttpGet(request.getUrl());
+        }
+        request.getHeaders().forEach(httpRequest::setHeader);
+        return httpRequest;
+    }
+
+    /**
+     * Closing the content stream reads any remaining bytes, and closing the response returns the connection to
+     * the pool.
+     */
+    private static class ReleasingInputStream extends FilterInputStream {
+
+        private final CloseableHttpResponse response;
+
+        ReleasingInputStream(InputStream content, CloseableHttpResponse response) {
+            super(content);
+            this.response = response;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                response.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service;
+
+import com.okta.cli.common.model.AppsManifest;
+import com.okta.commons.lang.Strings;
+import org.yaml.snakeyaml.DumperOptions;
+import org.yaml.snakeyaml.LoaderOptions;
+import org.yaml.snakeyaml.Yaml;
+import org.yaml.snakeyaml.constructor.Constructor;
+import org.yaml.snakeyaml.error.YAMLException;
+import org.yaml.snakeyaml.representer.Representer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashSet;
+import java.util.Set;
+
+public class AppsManifestParser {
+
+    public AppsManifest parse(File manifestFile) throws IOException {
+
+        if (!manifestFile.exists()) {
+            throw new IllegalArgumentException("Apps manifest file not found: '" + manifestFile + "'");
+        }
+
+        // ignore unknown properties, so we can add additional features and not break older clients
+        Representer representer = new Representer(new DumperOptions());
+        representer.getPropertyUtils().setSkipMissingProperties(true);
+
+        AppsManifest manifest;
+        try (Reader reader = Files.newBufferedReader(manifestFile.toPath(), StandardCharsets.UTF_8)) {
+            manifest = new Yaml(new Constructor(AppsManifest.class, new LoaderOptions()), representer).loadAs(reader, AppsManifest.class);
+        } catch (YAMLException e) {
+            throw new IllegalArgumentException("Apps manifest file: '" + manifestFile.getAbsoluteFile() + "' is not valid: " + e.getMessage(), e);
+        }
+
+        if (manifest == null || manifest.getApps() == null || manifest.getApps().isEmpty()) {
+            throw new IllegalArgumentException("Apps manifest file: '" + manifestFile.getAbsoluteFile() + "' must contain an 'apps' list");
+        }
+
+        Set<String> names = new HashSet<>();
+        manifest.getApps().forEach(app -> {
+            if (Strings.isEmpty(app.getName()) || Strings.isEmpty(app.getTemplate())) {
+                throw new IllegalArgumentException("Apps manifest file: '" + manifestFile.getAbsoluteFile() + "' each app must have a 'name' and 'template'");
+            }
+            if (!names.add(app.getName())) {
+                throw new IllegalArgumentException("Apps manifest file: '" + manifestFile.getAbsoluteFile() + "' contains duplicate app name: " + app.getName());
+            }
+        });
+        return manifest;
+    }
+}
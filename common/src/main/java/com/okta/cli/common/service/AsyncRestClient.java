@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking variant of {@link RestClient}, the returned futures complete exceptionally with a
+ * {@link com.okta.sdk.resource.ResourceException} for error responses, or an {@link java.io.IOException} for
+ * network failures.
+ */
+public interface AsyncRestClient {
+
+    <T> CompletableFuture<T> getAsync(String url, Class<T> type);
+
+    <T> CompletableFuture<T> postAsync(String url, Object body, Class<T> responseType);
+
+    <T> CompletableFuture<T> postAsync(String url, String body, Class<T> responseType);
+
+}
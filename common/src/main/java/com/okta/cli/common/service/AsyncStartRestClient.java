@@ -0,0 +1,32 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service;
+
+import com.okta.cli.common.model.SamplesListings;
+import com.okta.cli.common.model.VersionInfo;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Non-blocking variant of {@link StartRestClient}, allows commands to overlap remote calls with other work.
+ */
+public interface AsyncStartRestClient {
+
+    CompletableFuture<VersionInfo> getVersionInfoAsync();
+
+    CompletableFuture<List<SamplesListings.OktaSample>> listSamplesAsync();
+}
@@ -24,5 +24,12 @@ public interface AuthorizationServerService {
 
     Map<String, AuthorizationServer> authorizationServersMap(Client client);
 
+    /**
+     * Fetches the authorization servers again, ignoring any cached lookup.
+     */
+    default Map<String, AuthorizationServer> reloadAuthorizationServersMap(Client client) {
+        return authorizationServersMap(client);
+    }
+
     void createGroupClaim(Client client, String groupClaimName, String authorizationServerId);
 }
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.file.FileSystem;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Detects binary files, so they can be skipped before interpolating placeholders. A file is binary if:
+ * <ul>
+ *     <li>it is marked {@code binary} (or {@code -text}) in the project's root {@code .gitattributes}</li>
+ *     <li>its extension is a well known binary format (images, archives, fonts, etc)</li>
+ *     <li>the first {@value #SNIFF_SIZE} bytes contain a NUL byte, or are not valid UTF-8</li>
+ * </ul>
+ * The number of skipped files and bytes is tracked. This class is safe to use from multiple threads.
+ */
+@Slf4j
+public class BinaryFileDetector {
+
+    static final int SNIFF_SIZE = 8 * 1024;
+
+    private static final Set<String> BINARY_EXTENSIONS = Set.of(
+            // images
+            "png", "jpg", "jpeg", "gif", "ico", "icns", "webp", "bmp", "tif", "tiff",
+            // archives and compiled code
+            "jar", "war", "ear", "class", "zip", "gz", "tgz", "bz2", "xz", "7z", "tar",
+            "so", "dll", "dylib", "exe", "bin", "wasm", "node",
+            // fonts
+            "woff", "woff2", "ttf", "otf", "eot",
+            // media and documents
+            "mp3", "mp4", "wav", "ogg", "webm", "mov", "pdf",
+            // key stores and databases
+            "jks", "keystore", "p12", "pfx", "db", "sqlite");
+
+    private final Path projectRoot;
+    private final List<PathMatcher> binaryPatterns;
+    private final AtomicLong skippedFiles = new AtomicLong();
+    private final AtomicLong skippedBytes = new AtomicLong();
+
+    /**
+     * A detector that does not use {@code .gitattributes}.
+     */
+    public BinaryFileDetector() {
+        this.projectRoot = null;
+        this.binaryPatterns = List.of();
+    }
+
+    /**
+     * A detector that honors the {@code .gitattributes} file in the project's root directory, if it exists.
+     */
+    public BinaryFileDetector(Path projectRoot) {
+        this.projectRoot = projectRoot.toAbsolutePath();
+        this.binaryPatterns = loadGitAttributes(this.projectRoot);
+    }
+
+    /**
+     * Returns true if the file is binary, the file is counted as skipped.
+     * @param file the file to check
+     */
+    public boolean isBinary(Path file) {
+        Path relativePath = projectRoot != null
+                ? projectRoot.relativize(file.toAbsolutePath())
+                : file.getFileName();
+        if (isBinaryPath(relativePath)) {
+            return skipped(file);
+        }
+
+        byte[] prefix = new byte[SNIFF_SIZE];
+        int length;
+        try (InputStream in = Files.newInputStream(file)) {
+            length = in.readNBytes(prefix, 0, prefix.length);
+        } catch (IOException e) {
+            // let the interpolation report the problem
+            return false;
+        }
+        return isBinaryContent(prefix, length) && skipped(file);
+    }
+
+    /**
+     * Returns true if the content is binary, the content is counted as skipped.
+     * @param relativePath the path of the file relative to the project root
+     * @param content the content of the file
+     */
+    public boolean isBinary(String relativePath, byte[] content) {
+        Path path = projectRoot != null
+                ? projectRoot.getFileSystem().getPath(relativePath)
+                : Path.of(relativePath);
+        if (isBinaryPath(path) || isBinaryContent(content, Math.min(content.length, SNIFF_SIZE))) {
+            skippedFiles.incrementAndGet();
+            skippedBytes.addAndGet(content.length);
+            return true;
+        }
+        return false;
+    }
+
+    public long getSkippedFiles() {
+        return skippedFiles.get();
+    }
+
+    public long getSkippedBytes() {
+        return skippedBytes.get();
+    }
+
+    private boolean isBinaryPath(Path relativePath) {
+        Path fileName = relativePath.getFileName();
+        if (fileName == null) {
+            return false;
+        }
+        String name = fileName.toString();
+        int dot = name.lastIndexOf('.');
+        if (dot >= 0 && BINARY_EXTENSIONS.contains(name.substring(dot + 1).toLowerCase(Locale.ENGLISH))) {
+            return true;
+        }
+
+        return binaryPatterns.stream().anyMatch(matcher -> matcher.matches(relativePath));
+    }
+
+    private boolean skipped(Path file) {
+        skippedFiles.incrementAndGet();
+        try {
+            skippedBytes.addAndGet(Files.size(file));
+        } catch (IOException e) {
+            log.debug("Failed to get size of file: {}", file, e);
+        }
+        return true;
+    }
+
+    static boolean isBinaryContent(byte[] content, int length) {
+        for (int i = 0; i < length; i++) {
+            if (content[i] == 0) {
+                return true;
+            }
+        }
+
+        CharsetDecoder decoder = UTF_8.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        CharBuffer out = CharBuffer.allocate(length);
+        // not the end of input, a multi-byte character cut off at the end of the prefix is NOT an error
+        CoderResult result = decoder.decode(ByteBuffer.wrap(content, 0, length), out, false);
+        return result.isError();
+    }
+
+    private static List<PathMatcher> loadGitAttributes(Path projectRoot) {
+        Path gitAttributes = projectRoot.resolve(".gitattributes");
+        List<String> lines;
+        try {
+            lines = Files.readAllLines(gitAttributes, UTF_8);
+        } catch (NoSuchFileException e) {
+            return List.of();
+        } catch (IOException e) {
+            log.debug("Failed to read {}", gitAttributes, e);
+            return List.of();
+        }
+
+        FileSystem fileSystem = projectRoot.getFileSystem();
+        List<PathMatcher> matchers = new ArrayList<>();
+        for (String line : lines) {
+            String trimmed = line.trim();
+            if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                continue;
+            }
+            String[] parts = trimmed.split("\\s+");
+            List<String> attributes = Arrays.asList(parts).subList(1, parts.length);
+            if (attributes.contains("binary") || attributes.contains("-text")) {
+                try {
+                    for (String glob : toGlobs(parts[0])) {
+                        matchers.add(fileSystem.getPathMatcher("glob:" + glob));
+                    }
+                } catch (IllegalArgumentException e) {
+                    // the pattern is valid for git, but cannot be expressed as a glob, the line is ignored
+                    log.debug("Ignoring unsupported pattern in {}: {}", gitAttributes, line, e);
+                }
+            }
+        }
+        return matchers;
+    }
+
+    /**
+     * Converts a {@code .gitattributes} pattern to globs, relative to the project root.
+     */
+    private static List<String> toGlobs(String pattern) {
+        if (pattern.startsWith("/")) {
+            return List.of(pattern.substring(1));
+        }
+        if (pattern.contains("/")) {
+            return List.of(pattern);
+        }
+        // patterns without a slash match a file name in any directory, glob groups cannot be nested, so a pattern
+        // with its own group is matched separately at the root
+        return pattern.contains("{")
+                ? List.of(pattern, "**/" + pattern)
+                : List.of("{" + pattern + ",**/" + pattern + "}");
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Interpolates a file in fixed size chunks, so memory use does not depend on the size of the file.
+ * <p>
+ * Chunks are only split outside of expressions: text starting at an unterminated {@code ${} (or a trailing {@code $})
+ * is carried over to the next chunk. Expressions longer than {@link #MAX_EXPRESSION_LENGTH} are not carried over, and
+ * are treated as plain text.
+ * <p>
+ * The file is read once to detect if anything would change, only then is the result written to a temporary file,
+ * which replaces the original atomically.
+ */
+final class ChunkedInterpolation {
+
+    /**
+     * Files larger than this are interpolated in chunks.
+     */
+    static final long THRESHOLD = 1024 * 1024;
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int MAX_EXPRESSION_LENGTH = 1024;
+
+    private final Interpolator interpolator;
+    private final Map<String, String> context;
+
+    ChunkedInterpolation(Interpolator interpolator, Map<String, String> context) {
+        this.interpolator = interpolator;
+        this.context = context;
+    }
+
+    /**
+     * Returns true if interpolating the file would change it.
+     * @throws java.nio.charset.MalformedInputException if the file is not valid UTF-8
+     */
+    boolean hasChanges(Path path) throws IOException {
+        return process(path, null);
+    }
+
+    /**
+     * Interpolates the file, replacing it with the result.
+     */
+    void write(Path path) throws IOException {
+        Path tempFile = Files.createTempFile(path.toAbsolutePath().getParent(), path.getFileName().toString(), ".tmp");
+        try {
+            try (Writer writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+                process(path, writer);
+            }
+            copyPermissions(path, tempFile);
+            Files.move(tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * Interpolates each chunk of the file, writing the result if a writer is given.
+     * @return true if any chunk changed, without a writer this returns as soon as a change is found
+     */
+    private boolean process(Path path, Writer writer) throws IOException {
+        boolean changed = false;
+        char[] buffer = new char[CHUNK_SIZE];
+        StringBuilder pending = new StringBuilder(CHUNK_SIZE + MAX_EXPRESSION_LENGTH);
+
+        // the decoder reports malformed input, instead of replacing it
+        try (Reader reader = new InputStreamReader(Files.newInputStream(path), UTF_8.newDecoder())) {
+            int read;
+            while ((read = reader.read(buffer)) >= 0) {
+                pending.append(buffer, 0, read);
+                int cut = safeCut(pending);
+                if (cut > 0) {
+                    changed |= emit(pending.substring(0, cut), writer);
+                    pending.delete(0, cut);
+                }
+                if (changed && writer == null) {
+                    return true;
+                }
+            }
+        }
+        return emit(pending.toString(), writer) || changed;
+    }
+
+    private boolean emit(String text, Writer writer) throws IOException {
+        String result = interpolator.interpolate(text, context);
+        if (writer != null) {
+            writer.write(result);
+        }
+        return !result.equals(text);
+    }
+
+    /**
+     * Returns the index up to which the text can be interpolated without splitting an expression.
+     */
+    private static int safeCut(StringBuilder text) {
+        int length = text.length();
+
+        // every expression before the last '}' is complete, the first '${' after it may continue in the next chunk
+        int open = text.indexOf("${", text.lastIndexOf("}") + 1);
+        if (open >= 0 && length - open <= MAX_EXPRESSION_LENGTH) {
+            return open;
+        }
+
+        // a trailing '$' may start an expression
+        return text.charAt(length - 1) == '$' ? length - 1 : length;
+    }
+
+    private static void copyPermissions(Path source, Path target) throws IOException {
+        // temp files are only readable by the owner, keep the permissions of the original file
+        PosixFileAttributeView view = Files.getFileAttributeView(target, PosixFileAttributeView.class);
+        if (view != null) {
+            view.setPermissions(Files.getPosixFilePermissions(source));
+        }
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service;
+
+import com.okta.commons.lang.Strings;
+import com.okta.sdk.impl.config.ClientConfiguration;
+import com.okta.sdk.impl.config.EnvironmentVariablesPropertiesSource;
+import com.okta.sdk.impl.config.OptionalPropertiesSource;
+import com.okta.sdk.impl.config.PropertiesSource;
+import com.okta.sdk.impl.config.ResourcePropertiesSource;
+import com.okta.sdk.impl.config.SystemPropertiesSource;
+import com.okta.sdk.impl.config.YAMLPropertiesSource;
+import com.okta.sdk.impl.io.DefaultResourceFactory;
+import com.okta.sdk.impl.io.ResourceFactory;
+import lombok.EqualsAndHashCode;
+
+import java.io.File;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads the Okta org URL and API token from the same sources as the Okta SDK's {@code DefaultClientBuilder}, in the
+ * same order: {@code okta.properties} and {@code okta.yaml} on the classpath, {@code ~/.okta/okta.yaml}, environment
+ * variables, and system properties. Unlike the builder, nothing else is read or validated (cache config, proxies,
+ * private keys, etc).
+ * <p>
+ * The result is shared by all callers in this process, and only read again when {@code ~/.okta/okta.yaml} or the
+ * {@code okta.client.*} system properties change, or after {@link #invalidate()} is called.
+ */
+final class ClientConfigurationReader {
+
+    static final String ORG_URL_PROPERTY = "okta.client.orgUrl";
+    static final String TOKEN_PROPERTY = "okta.client.token";
+
+    private static final List<String> CLASSPATH_SOURCES = List.of("classpath:okta.properties", "classpath:okta.yaml");
+
+    private static Snapshot snapshot;
+
+    private ClientConfigurationReader() {}
+
+    static synchronized ClientConfiguration get() {
+        Key key = new Key();
+        if (snapshot == null || !snapshot.key.equals(key)) {
+            snapshot = new Snapshot(key, read(key.oktaYaml));
+        }
+        return copy(snapshot.configuration);
+    }
+
+    static synchronized void invalidate() {
+        snapshot = null;
+    }
+
+    private static ClientConfiguration read(File oktaYaml) {
+        ResourceFactory resourceFactory = new DefaultResourceFactory();
+        Map<String, String> properties = new LinkedHashMap<>();
+        CLASSPATH_SOURCES.forEach(location -> properties.putAll(optional(location.endsWith(".yaml")
+                ? new YAMLPropertiesSource(resourceFactory.createResource(location))
+                : new ResourcePropertiesSource(resourceFactory.createResource(location)))));
+        properties.putAll(optional(new YAMLPropertiesSource(resourceFactory.createResource(oktaYaml.getAbsolutePath()))));
+        properties.putAll(EnvironmentVariablesPropertiesSource.oktaFilteredPropertiesSource().getProperties());
+        properties.putAll(SystemPropertiesSource.oktaFilteredPropertiesSource().getProperties());
+
+        ClientConfiguration configuration = new ClientConfiguration();
+        String orgUrl = properties.get(ORG_URL_PROPERTY);
+        if (Strings.hasText(orgUrl)) {
+            // escaped colons are allowed in properties files
+            configuration.setBaseUrl(orgUrl.replace("\\:", ":"));
+        }
+        String token = properties.get(TOKEN_PROPERTY);
+        if (Strings.hasText(token)) {
+            configuration.setApiToken(token);
+        }
+        return configuration;
+    }
+
+    private static Map<String, String> optional(PropertiesSource source) {
+        return new OptionalPropertiesSource(source).getProperties();
+    }
+
+    private static ClientConfiguration copy(ClientConfiguration source) {
+        // callers get their own copy, ClientConfiguration is mutable
+        ClientConfiguration configuration = new ClientConfiguration();
+        configuration.setBaseUrl(source.getBaseUrl());
+        configuration.setApiToken(source.getApiToken());
+        return configuration;
+    }
+
+    /**
+     * The inputs that can change while the CLI is running.
+     */
+    @EqualsAndHashCode
+    private static class Key {
+
+        private final File oktaYaml = new File(System.getProperty("user.home"), ".okta/okta.yaml");
+        private final long size = oktaYaml.length();
+        private final long lastModified = oktaYaml.lastModified();
+        private final String orgUrl = System.getProperty(ORG_URL_PROPERTY);
+        private final String token = System.getProperty(TOKEN_PROPERTY);
+    }
+
+    private static class Snapshot {
+
+        private final Key key;
+        private final ClientConfiguration configuration;
+
+        Snapshot(Key key, ClientConfiguration configuration) {
+            this.key = key;
+            this.configuration = configuration;
+        }
+    }
+}
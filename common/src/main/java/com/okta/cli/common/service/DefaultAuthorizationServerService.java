@@ -15,24 +15,75 @@
  */
 package com.okta.cli.common.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.okta.cli.common.model.AuthorizationServer;
 import com.okta.cli.common.model.AuthorizationServerList;
 import com.okta.commons.lang.Assert;
 import com.okta.sdk.client.Client;
+import com.okta.sdk.impl.ds.InternalDataStore;
 import com.okta.sdk.resource.ExtensibleResource;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static com.okta.cli.common.service.LookupCache.Lookup.AUTHORIZATION_SERVERS;
+
 public class DefaultAuthorizationServerService implements AuthorizationServerService {
 
+    // only the properties used by the CLI are cached
+    private static final List<String> CACHED_PROPERTIES = List.of("id", "name", "issuer");
+    private static final TypeReference<List<Map<String, Object>>> CACHED_TYPE = new TypeReference<>() {};
+
+    private final LookupCache lookupCache;
+
+    public DefaultAuthorizationServerService() {
+        this(LookupCache.getInstance());
+    }
+
+    DefaultAuthorizationServerService(LookupCache lookupCache) {
+        this.lookupCache = lookupCache;
+    }
+
     @Override
     public Map<String, AuthorizationServer> authorizationServersMap(Client client) {
+        String orgUrl = LookupCache.orgUrl(client);
+        Optional<List<Map<String, Object>>> cached = lookupCache.get(orgUrl, AUTHORIZATION_SERVERS, CACHED_TYPE);
+        if (cached.isPresent()) {
+            // the cache is only used when the client exposes an InternalDataStore, see LookupCache.orgUrl()
+            InternalDataStore dataStore = (InternalDataStore) client.getDataStore();
+            return cached.get().stream()
+                    .map(properties -> new AuthorizationServer(dataStore, properties))
+                    .collect(Collectors.toMap(AuthorizationServer::getId, as -> as));
+        }
+
         AuthorizationServerList asList = client.http().get("/api/v1/authorizationServers", AuthorizationServerList.class);
-        return asList.stream()
+        Map<String, AuthorizationServer> asMap = asList.stream()
                 .collect(Collectors.toMap(as -> (String) as.get("id"), as -> as));
+
+        lookupCache.put(orgUrl, AUTHORIZATION_SERVERS, asMap.values().stream()
+                .map(DefaultAuthorizationServerService::cachedProperties)
+                .collect(Collectors.toList()));
+        return asMap;
+    }
+
+    /**
+     * Fetches the authorization servers again, ignoring any cached lookup, e.g. when an authorization server id is not
+     * found in the cached list.
+     */
+    @Override
+    public Map<String, AuthorizationServer> reloadAuthorizationServersMap(Client client) {
+        lookupCache.invalidate(LookupCache.orgUrl(client), AUTHORIZATION_SERVERS);
+        return authorizationServersMap(client);
+    }
+
+    private static Map<String, Object> cachedProperties(AuthorizationServer as) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        CACHED_PROPERTIES.forEach(name -> properties.put(name, as.get(name)));
+        return properties;
     }
 
     private boolean containsGroupClaim(Client client, String groupClaimName, String authorizationServerId) {
@@ -15,6 +15,7 @@
  */
 package com.okta.cli.common.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.okta.sdk.client.Client;
 import com.okta.sdk.resource.ExtensibleResource;
 import com.okta.sdk.resource.application.Application;
@@ -35,10 +36,23 @@ import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static com.okta.cli.common.service.LookupCache.Lookup.EVERYONE_GROUP;
 import static com.okta.commons.lang.Collections.isEmpty;
 
 class DefaultOidcAppCreator implements OidcAppCreator {
 
+    private static final TypeReference<String> GROUP_ID_TYPE = new TypeReference<>() {};
+
+    private final LookupCache lookupCache;
+
+    DefaultOidcAppCreator() {
+        this(LookupCache.getInstance());
+    }
+
+    DefaultOidcAppCreator(LookupCache lookupCache) {
+        this.lookupCache = lookupCache;
+    }
+
     @Override
     public ExtensibleResource createOidcApp(Client client, String oidcAppName, List<String> redirectUris, List<String> postLogoutRedirectUris) {
 
@@ -184,8 +198,13 @@ class DefaultOidcAppCreator implements OidcAppCreator {
     }
 
     private void assignAppToEveryoneGroup(Client client, Application app) {
-        // look up 'everyone' group id
-        String everyoneGroupId = client.listGroups(null, "profile.name eq \"everyone\"", null).single().getId();
+        // look up 'everyone' group id, it never changes for an org so it is cached
+        String orgUrl = LookupCache.orgUrl(client);
+        String everyoneGroupId = lookupCache.get(orgUrl, EVERYONE_GROUP, GROUP_ID_TYPE).orElseGet(() -> {
+            String groupId = client.listGroups(null, "profile.name eq \"everyone\"", null).single().getId();
+            lookupCache.put(orgUrl, EVERYONE_GROUP, groupId);
+            return groupId;
+        });
 
         ApplicationGroupAssignment aga = client.instantiate(ApplicationGroupAssignment.class).setPriority(2);
         app.createApplicationGroupAssignment(everyoneGroupId, aga);
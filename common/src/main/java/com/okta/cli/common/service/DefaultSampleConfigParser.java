@@ -27,6 +27,7 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.Map;
+import java.util.regex.PatternSyntaxException;
 
 public class DefaultSampleConfigParser implements SampleConfigParser {
 
@@ -45,7 +46,7 @@ public class DefaultSampleConfigParser implements SampleConfigParser {
         String configFileContent = Files.readString(configFile.toPath().toAbsolutePath(), StandardCharsets.UTF_8);
 
         // filter the file
-        configFileContent = new DefaultInterpolator().interpolate(configFileContent, context);
+        configFileContent = new TemplateInterpolator().interpolate(configFileContent, context);
 
         // ignore unknown properties, so we can add additional features and not break older clients
         Representer representer = new Representer(new DumperOptions());
@@ -58,6 +59,14 @@ public class DefaultSampleConfigParser implements SampleConfigParser {
             throw new IllegalArgumentException("Sample configuration file: '" + configFile.getAbsoluteFile() +
                                                "' must contain an 'oauthClient' element, see: " + DOC_URL);
         }
+
+        // fail early if the include/exclude globs are invalid
+        try {
+            new SampleFileFilter(config.getInclude(), config.getExclude());
+        } catch (PatternSyntaxException e) {
+            throw new IllegalArgumentException("Sample configuration file: '" + configFile.getAbsoluteFile() +
+                                               "' contains an invalid 'include' or 'exclude' glob: " + e.getMessage(), e);
+        }
         return config;
     }
 }
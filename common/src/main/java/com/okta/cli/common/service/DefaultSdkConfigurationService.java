@@ -16,7 +16,6 @@
 package com.okta.cli.common.service;
 
 import com.okta.commons.lang.Strings;
-import com.okta.sdk.impl.client.DefaultClientBuilder;
 import com.okta.sdk.impl.config.ClientConfiguration;
 import org.yaml.snakeyaml.Yaml;
 
@@ -26,13 +25,10 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
-import java.lang.reflect.Field;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.attribute.PosixFilePermission;
-import java.security.AccessController;
-import java.security.PrivilegedAction;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Set;
@@ -50,19 +46,8 @@ public class DefaultSdkConfigurationService implements SdkConfigurationService {
 
     @Override
     public ClientConfiguration loadUnvalidatedConfiguration() throws ClientConfigurationException {
-        try {
-            Field field = DefaultClientBuilder.class.getDeclaredField("clientConfig");
-
-            AccessController.doPrivileged((PrivilegedAction<Object>) () -> {
-                field.setAccessible(true);
-                return null;
-            });
-
-            return (ClientConfiguration) field.get(clientBuilder());
-        } catch (NoSuchFieldException | IllegalAccessException e) {
-            throw new ClientConfigurationException("Could not load Okta SDK configuration, ensure okta-sdk-api version has " +
-                    "not been changed in this plugin's configuration: " + e.getMessage(), e);
-        }
+        // only the org URL and API token are needed, building a full SDK client config is much slower
+        return ClientConfigurationReader.get();
     }
 
     @Override
@@ -87,6 +72,8 @@ public class DefaultSdkConfigurationService implements SdkConfigurationService {
         Yaml yaml = new Yaml();
         try (Writer writer = fileWriter(oktaPropsFile)){
             yaml.dump(rootProps, writer);
+        } finally {
+            ClientConfigurationReader.invalidate();
         }
 
         Set<String> supportedViews = FileSystems.getDefault().supportedFileAttributeViews();
@@ -103,10 +90,6 @@ public class DefaultSdkConfigurationService implements SdkConfigurationService {
         }
     }
 
-    DefaultClientBuilder clientBuilder() {
-        return new DefaultClientBuilder();
-    }
-
     private static Writer fileWriter(File file) throws FileNotFoundException {
         return new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8);
     }
@@ -33,20 +33,18 @@ import com.okta.sdk.resource.ResourceException;
 import com.okta.sdk.resource.application.OpenIdConnectApplicationType;
 import com.okta.sdk.resource.group.Group;
 import com.okta.sdk.resource.group.GroupList;
-import com.okta.sdk.resource.role.Scope;
-import com.okta.sdk.resource.role.ScopeType;
-import com.okta.sdk.resource.trusted.origin.TrustedOrigin;
-import com.okta.sdk.resource.trusted.origin.TrustedOriginList;
 import com.okta.sdk.resource.user.User;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -61,10 +59,16 @@ public class DefaultSetupService implements SetupService {
 
     private final AuthorizationServerService authorizationServerService;
 
+    private final TrustedOriginReconciler trustedOriginReconciler;
+
     private final OidcProperties oidcProperties;
 
     private final Duration verificationPollingFrequency = Duration.ofSeconds(4);
 
+    private final int setupThreads = Settings.getSetupThreads();
+
+    private final Path journalDir;
+
     public DefaultSetupService(OidcProperties oidcProperties) {
         this(new DefaultSdkConfigurationService(),
                 new DefaultOktaOrganizationCreator(),
@@ -78,11 +82,34 @@ public class DefaultSetupService implements SetupService {
                                OidcAppCreator oidcAppCreator, 
                                AuthorizationServerService authorizationServerService,
                                OidcProperties oidcProperties) {
+        this(sdkConfigurationService, organizationCreator, oidcAppCreator, authorizationServerService,
+                new DefaultTrustedOriginReconciler(), oidcProperties);
+    }
+
+    public DefaultSetupService(SdkConfigurationService sdkConfigurationService,
+                               OktaOrganizationCreator organizationCreator,
+                               OidcAppCreator oidcAppCreator,
+                               AuthorizationServerService authorizationServerService,
+                               TrustedOriginReconciler trustedOriginReconciler,
+                               OidcProperties oidcProperties) {
+        this(sdkConfigurationService, organizationCreator, oidcAppCreator, authorizationServerService,
+                trustedOriginReconciler, oidcProperties, Settings.getSetupJournalDir());
+    }
+
+    DefaultSetupService(SdkConfigurationService sdkConfigurationService,
+                        OktaOrganizationCreator organizationCreator,
+                        OidcAppCreator oidcAppCreator,
+                        AuthorizationServerService authorizationServerService,
+                        TrustedOriginReconciler trustedOriginReconciler,
+                        OidcProperties oidcProperties,
+                        Path journalDir) {
         this.sdkConfigurationService = sdkConfigurationService;
         this.organizationCreator = organizationCreator;
         this.oidcAppCreator = oidcAppCreator;
         this.authorizationServerService = authorizationServerService;
+        this.trustedOriginReconciler = trustedOriginReconciler;
         this.oidcProperties = oidcProperties;
+        this.journalDir = journalDir;
     }
 
     @Override
@@ -174,6 +201,11 @@ public class DefaultSetupService implements SetupService {
 
         // Create new Application
         String clientId = propertySource.getProperty(oidcProperties.clientIdPropertyName);
+        String journalOrgUrl = Strings.isEmpty(orgUrl) ? LookupCache.orgUrl(client) : orgUrl;
+        // a setup can only be resumed if the client ID is read back from a file
+        SetupJournalTracker journal = propertySource.getFile()
+                .map(configFile -> new SetupJournalTracker(journalDir, journalOrgUrl, oidcAppName, configFile))
+                .orElseGet(SetupJournalTracker::disabled);
 
         try (ProgressBar progressBar = ProgressBar.create(interactive)) {
             if (!ConfigurationValidator.validateClientId(clientId).isValid()) {
@@ -209,27 +241,58 @@ public class DefaultSetupService implements SetupService {
                 oidcProperties.setPostLogoutUris(postLogoutRedirectUris);
 
                 propertySource.addProperties(oidcProperties.getProperties());
+                journal.start(clientCredsResponse.getString("client_id"));
 
                 progressBar.info("Created OIDC application, client-id: " + clientCredsResponse.getString("client_id"));
 
-                if (!Strings.isEmpty(groupClaimName)) {
+            } else if (journal.isResumable(clientId)) {
+                // a previous run created the application, but did not finish configuring it
+                progressBar.start("Resuming configuration of the OIDC Application, almost done:");
+                progressBar.info("Existing OIDC application detected for clientId: " + clientId + ", resuming setup");
+
+            } else {
+                progressBar.info("Existing OIDC application detected for clientId: "+ clientId + ", skipping new application creation\n");
+                return;
+            }
+
+            // the remaining steps only depend on the new application, they run concurrently, steps completed by a
+            // previous run are skipped
+            TaskGraph setupSteps = new TaskGraph(setupThreads);
+            if (!Strings.isEmpty(groupClaimName) && !journal.isCompleted(SetupJournalTracker.GROUP_CLAIM + groupClaimName)) {
+                setupSteps.add("group claim", () -> {
                     progressBar.info("Creating Authorization Server claim '" + groupClaimName + "':");
                     authorizationServerService.createGroupClaim(client, groupClaimName, authorizationServerId);
-                }
+                    journal.complete(SetupJournalTracker.GROUP_CLAIM + groupClaimName);
+                });
+            }
 
-                if (!Collections.isEmpty(groupsToCreate)) {
+            Set<String> remainingGroups = groupsToCreate == null ? Set.of() : groupsToCreate.stream()
+                    .filter(groupName -> !journal.isCompleted(SetupJournalTracker.GROUP + groupName))
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            if (!remainingGroups.isEmpty()) {
+                TaskGraph.Task<User> currentUser = setupSteps.supply("current user", () -> {
                     User user = client.getUser("me"); // The user the owns the api token
-                    progressBar.info("Adding user '" + user.getProfile().getLogin() + "' to groups: " + groupsToCreate);
-                    groupsToCreate.forEach(groupName -> {
-                        createAndAssignGroup(client, user, groupName, progressBar);
-                    });
-                }
-
-                // configure trusted origins
-                configureTrustedOrigins(client, trustedOrigins);
-            } else {
-                progressBar.info("Existing OIDC application detected for clientId: "+ clientId + ", skipping new application creation\n");
+                    progressBar.info("Adding user '" + user.getProfile().getLogin() + "' to groups: " + remainingGroups);
+                    return user;
+                });
+                remainingGroups.forEach(groupName -> {
+                    setupSteps.add("group " + groupName, () -> {
+                        createAndAssignGroup(client, currentUser.get(), groupName, progressBar);
+                        journal.complete(SetupJournalTracker.GROUP + groupName);
+                    }, currentUser);
+                });
             }
+
+            // configure trusted origins
+            List<String> remainingOrigins = trustedOrigins == null ? List.of() : trustedOrigins.stream()
+                    .filter(origin -> !journal.isCompleted(SetupJournalTracker.TRUSTED_ORIGIN + origin))
+                    .collect(Collectors.toList());
+            setupSteps.add("trusted origins", () -> {
+                configureTrustedOrigins(client, remainingOrigins);
+                remainingOrigins.forEach(origin -> journal.complete(SetupJournalTracker.TRUSTED_ORIGIN + origin));
+            });
+            setupSteps.run();
+            journal.finish();
         }
     }
 
@@ -257,42 +320,7 @@ public class DefaultSetupService implements SetupService {
     private void configureTrustedOrigins(Client client, List<String> trustedOrigins) {
         // Configure CORS if needed
         if (!Collections.isEmpty(trustedOrigins)) {
-
-            TrustedOriginList origins = client.listOrigins();
-
-            List<Scope> scopes = List.of(
-                client.instantiate(Scope.class).setType(ScopeType.CORS),
-                client.instantiate(Scope.class).setType(ScopeType.REDIRECT)
-            );
-
-            trustedOrigins.forEach(url -> {
-                origins.stream()
-                        .filter(trustedOrigin -> url.equals(trustedOrigin.getOrigin()))
-
-                        // origins are unique, so just grab the first
-                        .findFirst().ifPresentOrElse(trustedOrigin -> {
-
-                            // nested object, just get the enum in a set
-                            Set<ScopeType> scopesSet = trustedOrigin.getScopes().stream()
-                                    .map(Scope::getType)
-                                    .collect(Collectors.toSet());
-
-                            // if either is missing enable both of them
-                            if (!scopesSet.contains(ScopeType.CORS) || !scopesSet.contains(ScopeType.REDIRECT)) {
-
-                                // Add CORS and Redirect to origin
-                                trustedOrigin.setScopes(scopes);
-                                trustedOrigin.update();
-                            }
-                        }, () -> {
-                            // create a new trusted origin if it doesn't exist
-                            client.createOrigin(client.instantiate(TrustedOrigin.class)
-                                    .setOrigin(url)
-                                    .setName(url)
-                                    .setScopes(scopes));
-                        }
-                );
-            });
+            trustedOriginReconciler.reconcile(client, trustedOrigins);
         }
     }
 }
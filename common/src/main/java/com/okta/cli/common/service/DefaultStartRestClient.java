@@ -15,6 +15,7 @@
  */
 package com.okta.cli.common.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.okta.cli.common.RestException;
@@ -27,25 +28,25 @@ import com.okta.sdk.impl.ds.MapMarshaller;
 import com.okta.sdk.impl.error.DefaultError;
 import com.okta.sdk.resource.ResourceException;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.http.Header;
-import org.apache.http.HttpHeaders;
-import org.apache.http.HttpResponse;
-import org.apache.http.client.methods.HttpGet;
-import org.apache.http.client.methods.HttpPost;
-import org.apache.http.entity.StringEntity;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
+import java.io.UncheckedIOException;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+/**
+ * REST client for start.okta.dev and the registration endpoints. Both the blocking and non-blocking methods share
+ * the same request handling, the difference is how the request is handed to the {@link HttpTransport}.
+ */
 @Slf4j
-public class DefaultStartRestClient implements RestClient, StartRestClient {
+public class DefaultStartRestClient implements RestClient, StartRestClient, AsyncRestClient, AsyncStartRestClient {
 
     private static final String APPLICATION_JSON = "application/json";
 
@@ -60,83 +61,204 @@ public class DefaultStartRestClient implements RestClient, StartRestClient {
 
     private final String baseUrl;
 
+    private final ResponseCache responseCache;
+
+    private final HttpTransport transport;
+
     public DefaultStartRestClient() {
         this(Settings.getCliApiUrl());
     }
 
     public DefaultStartRestClient(String baseUrl) {
+        this(baseUrl, ResponseCache.create());
+    }
+
+    DefaultStartRestClient(String baseUrl, ResponseCache responseCache) {
+        this(baseUrl, responseCache, HttpTransport.get());
+    }
+
+    DefaultStartRestClient(String baseUrl, ResponseCache responseCache, HttpTransport transport) {
         this.baseUrl = baseUrl;
+        this.responseCache = responseCache;
+        this.transport = transport;
     }
 
     @Override
     public VersionInfo getVersionInfo() throws IOException, RestException {
-        return get("/versions/cli", VersionInfo.class);
+        return join(getVersionInfo(this::sendBlocking));
     }
 
     @Override
     public List<SamplesListings.OktaSample> listSamples() throws IOException, RestException {
-        return get("/samples", SamplesListings.class).getItems();
+        return join(listSamples(this::sendBlocking));
     }
 
     @Override
     public <T> T get(String url, Class<T> responseType) throws RestException, IOException {
-        try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
-            HttpGet getMethod = new HttpGet(fullUrl(url));
+        return join(get(url, responseType, this::sendBlocking));
+    }
 
-            getMethod.setHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_JSON);
-            getMethod.setHeader(HttpHeaders.ACCEPT, APPLICATION_JSON);
-            getMethod.setHeader(HttpHeaders.USER_AGENT, USER_AGENT_STRING);
+    public <T> T post(String url, Object body, Class<T> responseType) throws RestException, IOException {
+        String postBody = objectMapper.writeValueAsString(body);
+        return post(url, postBody, responseType);
+    }
 
-            HttpResponse response = httpClient.execute(getMethod);
+    @Override
+    public <T> T post(String url, String body, Class<T> responseType) throws RestException, IOException {
+        return join(post(url, body, responseType, this::sendBlocking));
+    }
 
-            Header contentTypeHeader = response.getFirstHeader(HttpHeaders.CONTENT_TYPE);
-            if (contentTypeHeader == null || !contentTypeHeader.getValue().contains(APPLICATION_JSON)) {
-                log.warn("Content-Type header was NOT set to {}, parsing the response may fail", APPLICATION_JSON);
-            }
+    @Override
+    public CompletableFuture<VersionInfo> getVersionInfoAsync() {
+        return getVersionInfo(transport::executeAsync);
+    }
 
-            InputStream content = response.getEntity().getContent();
+    @Override
+    public CompletableFuture<List<SamplesListings.OktaSample>> listSamplesAsync() {
+        return listSamples(transport::executeAsync);
+    }
 
-            // check for error
-            if (response.getStatusLine().getStatusCode() == 200) {
-                return objectMapper.reader().readValue(content, responseType);
-            } else {
-                // assume error
-                throw new ResourceException(error(content, response.getStatusLine().getStatusCode()));
-            }
-        }
+    @Override
+    public <T> CompletableFuture<T> getAsync(String url, Class<T> responseType) {
+        return get(url, responseType, transport::executeAsync);
     }
 
-    public <T> T post(String url, Object body, Class<T> responseType) throws RestException, IOException {
-        String postBody = objectMapper.writeValueAsString(body);
-        return post(url, postBody, responseType);
+    @Override
+    public <T> CompletableFuture<T> postAsync(String url, Object body, Class<T> responseType) {
+        try {
+            return postAsync(url, objectMapper.writeValueAsString(body), responseType);
+        } catch (JsonProcessingException e) {
+            return CompletableFuture.failedFuture(e);
+        }
     }
 
     @Override
-    public <T> T post(String url, String body, Class<T> responseType) throws RestException, IOException {
-        try (CloseableHttpClient httpClient = HttpClients.createDefault()) {
-            HttpPost post = new HttpPost(fullUrl(url));
+    public <T> CompletableFuture<T> postAsync(String url, String body, Class<T> responseType) {
+        return post(url, body, responseType, transport::executeAsync);
+    }
 
-            post.setEntity(new StringEntity(body, StandardCharsets.UTF_8));
-            post.setHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_JSON);
-            post.setHeader(HttpHeaders.ACCEPT, APPLICATION_JSON);
-            post.setHeader(HttpHeaders.USER_AGENT, USER_AGENT_STRING);
+    private CompletableFuture<VersionInfo> getVersionInfo(Sender sender) {
+        return cachedGet("/versions/cli", VersionInfo.class, sender);
+    }
 
-            HttpResponse response = httpClient.execute(post);
+    private CompletableFuture<List<SamplesListings.OktaSample>> listSamples(Sender sender) {
+        return cachedGet("/samples", SamplesListings.class, sender)
+                .thenApply(SamplesListings::getItems);
+    }
 
-            Header contentTypeHeader = response.getFirstHeader(HttpHeaders.CONTENT_TYPE);
-            if (contentTypeHeader == null || !contentTypeHeader.getValue().contains(APPLICATION_JSON)) {
-                log.warn("Content-Type header was NOT set to {}, parsing the response may fail", APPLICATION_JSON);
-            }
+    private <T> CompletableFuture<T> get(String url, Class<T> responseType, Sender sender) {
+        return sender.apply(jsonRequest(HttpTransport.Request.get(fullUrl(url))))
+                .thenApply(response -> handleResponse(response, responseType));
+    }
+
+    private <T> CompletableFuture<T> post(String url, String body, Class<T> responseType, Sender sender) {
+        return sender.apply(jsonRequest(HttpTransport.Request.post(fullUrl(url), body)))
+                .thenApply(response -> handleResponse(response, responseType));
+    }
 
-            InputStream content = response.getEntity().getContent();
+    /**
+     * GETs a resource that rarely changes, using the on-disk {@link ResponseCache}. Fresh entries are returned without
+     * a network request, stale entries are revalidated using their ETag, and if the server cannot be reached the last
+     * known response is used.
+     */
+    private <T> CompletableFuture<T> cachedGet(String url, Class<T> responseType, Sender sender) {
 
-            // check for error
-            if (response.getStatusLine().getStatusCode() == 200) {
-                return objectMapper.reader().readValue(content, responseType);
-            } else {
-                // assume error
-                throw new ResourceException(error(content, response.getStatusLine().getStatusCode()));
+        String fullUrl = fullUrl(url);
+        Optional<ResponseCache.Entry> cached = responseCache.get(fullUrl);
+        if (cached.isPresent() && responseCache.isFresh(cached.get())) {
+            log.debug("Using cached response for {}", fullUrl);
+            return CompletableFuture.completedFuture(read(cached.get().getBody(), responseType));
+        }
+
+        HttpTransport.Request request = jsonRequest(HttpTransport.Request.get(fullUrl));
+        cached.map(ResponseCache.Entry::getEtag)
+                .ifPresent(etag -> request.header("If-None-Match", etag));
+
+        CompletableFuture<T> result = sender.apply(request).thenApply(response -> {
+            String etag = response.getETag().orElse(null);
+
+            if (response.getStatus() == 304 && cached.isPresent()) {
+                log.debug("Cached response for {} is still valid", fullUrl);
+                closeQuietly(response);
+                responseCache.touch(fullUrl, etag != null ? etag : cached.get().getEtag());
+                return read(cached.get().getBody(), responseType);
             }
+
+            warnIfNotJson(response);
+            byte[] body = readBody(response);
+            if (response.getStatus() == 200) {
+                T value = read(body, responseType);
+                responseCache.put(fullUrl, etag, body);
+                return value;
+            }
+            // assume error
+            throw new ResourceException(error(body, response.getStatus()));
+        });
+
+        // fall back to the last known response if the server cannot be reached, but not if it sent an invalid response
+        return cached.map(entry -> result.exceptionallyCompose(e -> {
+                    if (isTransportFailure(e)) {
+                        log.debug("Failed to reach {}, using the last cached response", fullUrl, e);
+                        return CompletableFuture.completedFuture(read(entry.getBody(), responseType));
+                    }
+                    return CompletableFuture.failedFuture(e);
+                }))
+                .orElse(result);
+    }
+
+    /**
+     * Returns true if the request failed because the server could not be reached (or the connection failed while
+     * reading the response), as opposed to an error or malformed response from the server.
+     */
+    private static boolean isTransportFailure(Throwable e) {
+        Throwable cause = e instanceof CompletionException ? e.getCause() : e;
+        if (cause instanceof UncheckedIOException) {
+            cause = cause.getCause();
+        }
+        // JSON parse failures are IOExceptions too
+        return cause instanceof IOException && !(cause instanceof JsonProcessingException);
+    }
+
+    private HttpTransport.Request jsonRequest(HttpTransport.Request request) {
+        return request.header("Content-Type", APPLICATION_JSON)
+                .header("Accept", APPLICATION_JSON)
+                .header("User-Agent", USER_AGENT_STRING);
+    }
+
+    private <T> T handleResponse(HttpTransport.Response response, Class<T> responseType) {
+
+        warnIfNotJson(response);
+        byte[] body = readBody(response);
+
+        // check for error
+        if (response.getStatus() == 200) {
+            return read(body, responseType);
+        } else {
+            // assume error
+            throw new ResourceException(error(body, response.getStatus()));
+        }
+    }
+
+    private void warnIfNotJson(HttpTransport.Response response) {
+        String contentType = response.getHeader("Content-Type").orElse("");
+        if (!contentType.contains(APPLICATION_JSON)) {
+            log.warn("Content-Type header was NOT set to {}, parsing the response may fail", APPLICATION_JSON);
+        }
+    }
+
+    private <T> T read(byte[] body, Class<T> responseType) {
+        try {
+            return objectMapper.reader().readValue(body, responseType);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private CompletableFuture<HttpTransport.Response> sendBlocking(HttpTransport.Request request) {
+        try {
+            return CompletableFuture.completedFuture(transport.execute(request));
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
         }
     }
 
@@ -144,12 +266,53 @@ public class DefaultStartRestClient implements RestClient, StartRestClient {
         return baseUrl + relative;
     }
 
-    private Error error(InputStream content, int statusCode) {
-        Map<String, Object> data = mapMarshaller.unmarshal(content, Collections.emptyMap());
+    private Error error(byte[] content, int statusCode) {
+        Map<String, Object> data = mapMarshaller.unmarshal(new ByteArrayInputStream(content), Collections.emptyMap());
         DefaultError error = new DefaultError(data);
         if (error.getStatus() < 0) {
             error.setStatus(statusCode);
         }
         return error;
     }
+
+    private static byte[] readBody(HttpTransport.Response response) {
+        // reading the whole body also releases the connection
+        try {
+            return response.readBody();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void closeQuietly(HttpTransport.Response response) {
+        try {
+            response.close();
+        } catch (IOException e) {
+            log.debug("Failed to close response", e);
+        }
+    }
+
+    /**
+     * Unwraps the result of a blocking request, rethrowing the original exception.
+     */
+    private static <T> T join(CompletableFuture<T> future) throws IOException {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            } else if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Hands a request to the transport, either blocking or non-blocking.
+     */
+    private interface Sender extends Function<HttpTransport.Request, CompletableFuture<HttpTransport.Response>> {}
 }
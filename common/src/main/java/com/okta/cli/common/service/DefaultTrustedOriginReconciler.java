@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service;
+
+import com.okta.commons.lang.Collections;
+import com.okta.sdk.client.Client;
+import com.okta.sdk.resource.role.Scope;
+import com.okta.sdk.resource.role.ScopeType;
+import com.okta.sdk.resource.trusted.origin.TrustedOrigin;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Lists the org's trusted origins once, indexes them by origin URL, and then applies the creates and updates
+ * concurrently. The number of concurrent requests is bounded by {@code okta.cli.setupThreads}, requests that hit the
+ * Okta rate limit are retried by the SDK's request executor.
+ */
+public class DefaultTrustedOriginReconciler implements TrustedOriginReconciler {
+
+    private final int parallelism;
+
+    public DefaultTrustedOriginReconciler() {
+        this(Settings.getSetupThreads());
+    }
+
+    DefaultTrustedOriginReconciler(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public Result reconcile(Client client, Collection<String> origins) {
+        if (Collections.isEmpty(origins)) {
+            return new Result(List.of(), List.of(), List.of());
+        }
+
+        // the list may span multiple pages, it is only iterated once
+        Map<String, TrustedOrigin> existingOrigins = client.listOrigins().stream()
+                .collect(Collectors.toMap(TrustedOrigin::getOrigin, Function.identity(), (first, second) -> first));
+
+        List<Scope> scopes = List.of(
+            client.instantiate(Scope.class).setType(ScopeType.CORS),
+            client.instantiate(Scope.class).setType(ScopeType.REDIRECT)
+        );
+
+        List<String> created = new ArrayList<>();
+        List<String> updated = new ArrayList<>();
+        List<String> unchanged = new ArrayList<>();
+        TaskGraph changes = new TaskGraph(parallelism);
+
+        new LinkedHashSet<>(origins).forEach(url -> {
+            TrustedOrigin trustedOrigin = existingOrigins.get(url);
+            if (trustedOrigin == null) {
+                // create a new trusted origin if it doesn't exist
+                created.add(url);
+                changes.add("create origin " + url, () -> client.createOrigin(client.instantiate(TrustedOrigin.class)
+                        .setOrigin(url)
+                        .setName(url)
+                        .setScopes(scopes)));
+            } else if (!hasCorsAndRedirect(trustedOrigin)) {
+                // if either is missing enable both of them
+                updated.add(url);
+                changes.add("update origin " + url, () -> {
+                    trustedOrigin.setScopes(scopes);
+                    trustedOrigin.update();
+                });
+            } else {
+                unchanged.add(url);
+            }
+        });
+
+        changes.run();
+        return new Result(created, updated, unchanged);
+    }
+
+    private static boolean hasCorsAndRedirect(TrustedOrigin trustedOrigin) {
+        // nested object, just get the enum in a set
+        Set<ScopeType> scopeTypes = trustedOrigin.getScopes().stream()
+                .map(Scope::getType)
+                .collect(Collectors.toSet());
+        return scopeTypes.contains(ScopeType.CORS) && scopeTypes.contains(ScopeType.REDIRECT);
+    }
+}
@@ -17,8 +17,25 @@ package com.okta.cli.common.service;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.Map;
+import java.util.function.Predicate;
 
 public interface Extractor {
 
     void extract(String uri, File targetDirectory) throws IOException;
+
+    /**
+     * Extracts the entries whose path (relative to the target directory) matches {@code include}, replacing any
+     * placeholders in the text files that match {@code filter} with values from the {@code context} as they are
+     * written.
+     * @param uri the location of the archive
+     * @param targetDirectory the directory to extract the archive into
+     * @param include filters the entries to extract
+     * @param filter selects the entries that may contain placeholders, see {@link SampleFileFilter}
+     * @param context placeholder values, if empty files are extracted unchanged
+     * @param binaryFiles detects (and counts) the files that are not interpolated
+     * @throws IOException if the archive could not be downloaded or extracted
+     */
+    void extract(String uri, File targetDirectory, Predicate<String> include, Predicate<String> filter,
+                 Map<String, String> context, BinaryFileDetector binaryFiles) throws IOException;
 }
@@ -0,0 +1,160 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.regex.Pattern;
+
+/**
+ * The HTTP engine used by the CLI's own REST clients ({@link DefaultStartRestClient} and {@link TarballExtractor}),
+ * calls to the Okta Management API go through the Okta SDK instead.
+ * <p>
+ * Two implementations are available, selected at runtime with the {@code OKTA_CLI_HTTP_TRANSPORT} env var or the
+ * {@code okta.cli.http.transport} system property:
+ * <ul>
+ *     <li>{@code apache} (default) - the pooled Apache HttpClient, see {@link PooledHttpClient}</li>
+ *     <li>{@code jdk} - the JDK's {@code java.net.http.HttpClient}, with HTTP/2 and non-blocking response bodies</li>
+ * </ul>
+ */
+public interface HttpTransport {
+
+    /**
+     * Executes the request and blocks until the response headers have been received.
+     * @param request the request to send
+     * @return the response, which must be closed by the caller
+     * @throws IOException if the request could not be sent
+     */
+    Response execute(Request request) throws IOException;
+
+    /**
+     * Executes the request without blocking, the future completes once the response headers have been received.
+     * @param request the request to send
+     * @return a future response, which must be closed by the caller
+     */
+    CompletableFuture<Response> executeAsync(Request request);
+
+    static HttpTransport get() {
+        return HttpTransports.get();
+    }
+
+    /**
+     * A simple HTTP request, only the methods used by the CLI are supported.
+     */
+    final class Request {
+
+        private final String method;
+        private final String url;
+        private final String body;
+        private final Map<String, String> headers = new LinkedHashMap<>();
+
+        private Request(String method, String url, String body) {
+            this.method = method;
+            this.url = url;
+            this.body = body;
+        }
+
+        public static Request get(String url) {
+            return new Request("GET", url, null);
+        }
+
+        public static Request post(String url, String body) {
+            return new Request("POST", url, body);
+        }
+
+        public Request header(String name, String value) {
+            headers.put(name, value);
+            return this;
+        }
+
+        public String getMethod() {
+            return method;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public String getBody() {
+            return body;
+        }
+
+        public Map<String, String> getHeaders() {
+            return headers;
+        }
+    }
+
+    /**
+     * An HTTP response, the body is streamed and MUST be closed to release the underlying connection.
+     */
+    final class Response implements Closeable {
+
+        private static final Pattern GZIP_ETAG_SUFFIX = Pattern.compile("--gzip(\"?)$");
+
+        private final int status;
+        private final Map<String, List<String>> headers;
+        private final InputStream body;
+
+        public Response(int status, Map<String, List<String>> headers, InputStream body) {
+            this.status = status;
+            this.body = body;
+            // header names are case-insensitive
+            this.headers = new LinkedHashMap<>();
+            headers.forEach((key, value) -> this.headers.put(key.toLowerCase(Locale.ENGLISH), value));
+        }
+
+        public int getStatus() {
+            return status;
+        }
+
+        public Optional<String> getHeader(String name) {
+            List<String> values = headers.get(name.toLowerCase(Locale.ENGLISH));
+            return values == null || values.isEmpty()
+                    ? Optional.empty()
+                    : Optional.ofNullable(values.get(0));
+        }
+
+        /**
+         * Returns the response's ETag. The {@code --gzip} suffix some servers (e.g. Jetty) append to the ETag of a
+         * compressed response is removed, the same server does not match it when sent back in {@code If-None-Match}.
+         */
+        public Optional<String> getETag() {
+            return getHeader("ETag").map(etag -> GZIP_ETAG_SUFFIX.matcher(etag).replaceFirst("$1"));
+        }
+
+        public InputStream getBody() {
+            return body;
+        }
+
+        public byte[] readBody() throws IOException {
+            try (InputStream in = body) {
+                return in.readAllBytes();
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            body.close();
+        }
+    }
+}
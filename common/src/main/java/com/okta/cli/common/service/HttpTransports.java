@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service;
+
+import java.util.Locale;
+
+/**
+ * Resolves the configured {@link HttpTransport}, the transport is created once per process.
+ */
+final class HttpTransports {
+
+    static final String APACHE = "apache";
+    static final String JDK = "jdk";
+
+    private static HttpTransport transport;
+
+    private HttpTransports() {}
+
+    static synchronized HttpTransport get() {
+        if (transport == null) {
+            transport = create(Settings.getHttpTransport());
+        }
+        return transport;
+    }
+
+    static HttpTransport create(String name) {
+        switch (name.toLowerCase(Locale.ENGLISH)) {
+            case APACHE:
+                return new ApacheHttpTransport();
+            case JDK:
+                return new JdkHttpTransport();
+            default:
+                throw new IllegalArgumentException("Unsupported HTTP transport '" + name + "', must be one of: " + APACHE + ", " + JDK);
+        }
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.okta.cli.common.model.InterpolationManifest;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.okta.cli.common.service.SampleConfigParser.SAMPLE_CONFIG_DIR;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Tracks which files in a sample project need to be filtered, using the {@link InterpolationManifest} from the
+ * previous run. A file is skipped if its size and modification time (or content hash) are unchanged, and none of the
+ * placeholders left in it have a new value in the context.
+ * <p>
+ * Files are recorded as they are filtered, {@link #save()} replaces the manifest with the files seen during this run.
+ * This class is safe to use from multiple threads.
+ */
+@Slf4j
+public class InterpolationManifestTracker {
+
+    static final String MANIFEST_FILE = "interpolation-manifest.json";
+
+    private static final int MAX_PLACEHOLDER_LENGTH = 1024;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final Path projectRoot;
+    private final Path manifestFile;
+    private final InterpolationManifest previous;
+    private final Map<String, String> contextHashes = new TreeMap<>();
+    private final Map<String, InterpolationManifest.FileEntry> files = new ConcurrentHashMap<>();
+    private final AtomicLong unchangedFiles = new AtomicLong();
+
+    public InterpolationManifestTracker(Path projectRoot, Map<String, String> context) {
+        this.projectRoot = projectRoot.toAbsolutePath();
+        this.manifestFile = this.projectRoot.resolve(SAMPLE_CONFIG_DIR).resolve(MANIFEST_FILE);
+        this.previous = load(manifestFile);
+        context.forEach((key, value) -> {
+            if (value != null) {
+                contextHashes.put(key, hash(value.getBytes(UTF_8)));
+            }
+        });
+    }
+
+    /**
+     * Returns true if the file does not need to be filtered again, the file is recorded as seen.
+     */
+    boolean isUpToDate(Path file) {
+        String path = relativePath(file);
+        InterpolationManifest.FileEntry entry = previous.getFiles().get(path);
+        if (entry == null) {
+            return false;
+        }
+
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+            if (attributes.size() != entry.getSize()) {
+                return false;
+            }
+            long lastModified = attributes.lastModifiedTime().toMillis();
+            if (lastModified != entry.getLastModified()) {
+                // the file may have been touched without changing it
+                if (entry.getHash() == null || !entry.getHash().equals(scan(file).hash)) {
+                    return false;
+                }
+                entry = copy(entry).setLastModified(lastModified);
+            }
+        } catch (IOException e) {
+            log.debug("Failed to check file: {}", file, e);
+            return false;
+        }
+
+        // a placeholder left in the file may have a value now
+        for (String placeholder : entry.getPlaceholders()) {
+            if (!Objects.equals(previous.getContext().get(placeholder), contextHashes.get(placeholder))) {
+                return false;
+            }
+        }
+
+        files.put(path, entry);
+        unchangedFiles.incrementAndGet();
+        return true;
+    }
+
+    /**
+     * Records the state of a file after it has been filtered.
+     */
+    void record(Path file, boolean binary) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        InterpolationManifest.FileEntry entry = new InterpolationManifest.FileEntry()
+                .setSize(attributes.size())
+                .setLastModified(attributes.lastModifiedTime().toMillis())
+                .setBinary(binary);
+
+        if (!binary) {
+            FileState state = scan(file);
+            entry.setHash(state.hash)
+                 .setPlaceholders(state.placeholders);
+        }
+        files.put(relativePath(file), entry);
+    }
+
+    /**
+     * Writes the manifest, containing only the files seen during this run.
+     */
+    public void save() throws IOException {
+        InterpolationManifest manifest = new InterpolationManifest()
+                .setContext(new TreeMap<>(contextHashes))
+                .setFiles(new TreeMap<>(files));
+
+        Files.createDirectories(manifestFile.getParent());
+        Path tempFile = Files.createTempFile(manifestFile.getParent(), MANIFEST_FILE, ".tmp");
+        try {
+            objectMapper.writerWithDefaultPrettyPrinter().writeValue(tempFile.toFile(), manifest);
+            Files.move(tempFile, manifestFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    /**
+     * The number of files skipped during this run, because they had not changed.
+     */
+    public long getUnchangedFiles() {
+        return unchangedFiles.get();
+    }
+
+    private InterpolationManifest load(Path file) {
+        try {
+            InterpolationManifest manifest = objectMapper.readValue(file.toFile(), InterpolationManifest.class);
+            if (manifest.getVersion() == 1 && manifest.getFiles() != null && manifest.getContext() != null) {
+                return manifest;
+            }
+        } catch (FileNotFoundException e) {
+            log.debug("No filter manifest found: {}", file);
+        } catch (IOException e) {
+            // the manifest is only an optimization, filter everything again
+            log.debug("Failed to read filter manifest: {}", file, e);
+        }
+        return new InterpolationManifest();
+    }
+
+    private String relativePath(Path file) {
+        return projectRoot.relativize(file.toAbsolutePath()).toString().replace('\\', '/');
+    }
+
+    private static InterpolationManifest.FileEntry copy(InterpolationManifest.FileEntry entry) {
+        return new InterpolationManifest.FileEntry()
+                .setSize(entry.getSize())
+                .setLastModified(entry.getLastModified())
+                .setHash(entry.getHash())
+                .setBinary(entry.isBinary())
+                .setPlaceholders(entry.getPlaceholders());
+    }
+
+    /**
+     * Reads the file once, hashing its content and collecting the {@code ${key}} placeholders in it. Placeholders are
+     * ASCII, so they can be found without decoding the content.
+     */
+    private static FileState scan(Path file) throws IOException {
+        Hasher hasher = Hashing.sha256().newHasher();
+        Set<String> placeholders = new TreeSet<>();
+        ByteArrayOutputStream key = null;
+        int previousByte = -1;
+
+        try (InputStream in = Files.newInputStream(file)) {
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) >= 0) {
+                hasher.putBytes(buffer, 0, read);
+                for (int i = 0; i < read; i++) {
+                    int b = buffer[i];
+                    if (key != null) {
+                        if (b == '}') {
+                            placeholders.add(stripLeadingDot(key.toString(UTF_8)));
+                            key = null;
+                        } else if (key.size() < MAX_PLACEHOLDER_LENGTH) {
+                            key.write(b);
+                        } else {
+                            key = null;
+                        }
+                    } else if (b == '{' && previousByte == '$') {
+                        key = new ByteArrayOutputStream();
+                    }
+                    previousByte = b;
+                }
+            }
+        }
+        return new FileState(hasher.hash().toString(), placeholders);
+    }
+
+    private static String stripLeadingDot(String key) {
+        return key.startsWith(".") ? key.substring(1) : key;
+    }
+
+    private static String hash(byte[] value) {
+        return Hashing.sha256().hashBytes(value).toString();
+    }
+
+    private static class FileState {
+
+        private final String hash;
+        private final Set<String> placeholders;
+
+        FileState(String hash, Set<String> placeholders) {
+            this.hash = hash;
+            this.placeholders = placeholders;
+        }
+    }
+}
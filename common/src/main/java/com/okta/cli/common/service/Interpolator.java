@@ -34,6 +34,11 @@ public interface Interpolator {
 
     default void interpolate(Path path, Map<String, String> context) throws IOException {
 
+        if (isLargeFile(path)) {
+            interpolateInChunks(path, context);
+            return;
+        }
+
         // TODO - better way to detect binary files?
         String fileContent;
         try {
@@ -54,6 +59,32 @@ public interface Interpolator {
         writeFile(path, result);
     }
 
+    private boolean isLargeFile(Path path) {
+        try {
+            return Files.size(path) > ChunkedInterpolation.THRESHOLD;
+        } catch (IOException e) {
+            // let the regular read report the problem
+            return false;
+        }
+    }
+
+    private void interpolateInChunks(Path path, Map<String, String> context) throws IOException {
+        ChunkedInterpolation chunked = new ChunkedInterpolation(this, context);
+        try {
+            // save a write to disk if nothing changed
+            if (!chunked.hasChanges(path)) {
+                return;
+            }
+        } catch (MalformedInputException e) {
+            log.debug("skipping binary file: {}", path.getFileName());
+            return;
+        } catch (IOException e) {
+            log.warn("Failed to read file: {}", path.getFileName());
+            return;
+        }
+        chunked.write(path);
+    }
+
     // allows for testing
     default String readFile(Path path) throws IOException {
         return Files.readString(path, UTF_8);
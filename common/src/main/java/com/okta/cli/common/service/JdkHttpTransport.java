@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * {@link HttpTransport} backed by the JDK's {@link HttpClient}. HTTP/2 is negotiated when the server supports it,
+ * allowing concurrent requests to be multiplexed over a single connection, and response bodies are streamed without
+ * blocking a thread while waiting for the response.
+ */
+class JdkHttpTransport implements HttpTransport {
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    @Override
+    public Response execute(Request request) throws IOException {
+        try {
+            return toResponse(httpClient.send(toHttpRequest(request), HttpResponse.BodyHandlers.ofInputStream()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Request interrupted: " + request.getUrl());
+        }
+    }
+
+    @Override
+    public CompletableFuture<Response> executeAsync(Request request) {
+        return httpClient.sendAsync(toHttpRequest(request), HttpResponse.BodyHandlers.ofInputStream())
+                .thenApply(JdkHttpTransport::toResponse);
+    }
+
+    private static HttpRequest toHttpRequest(Request request) {
+        HttpRequest.BodyPublisher bodyPublisher = request.getBody() != null
+                ? HttpRequest.BodyPublishers.ofString(request.getBody(), StandardCharsets.UTF_8)
+                : HttpRequest.BodyPublishers.noBody();
+
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(request.getUrl()))
+                .method(request.getMethod(), bodyPublisher);
+        request.getHeaders().forEach(builder::header);
+        return builder.build();
+    }
+
+    private static Response toResponse(HttpResponse<InputStream> response) {
+        return new Response(response.statusCode(), response.headers().map(), response.body());
+    }
+}
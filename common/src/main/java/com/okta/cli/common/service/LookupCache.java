@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.google.common.hash.Hashing;
+import com.okta.sdk.client.Client;
+import com.okta.sdk.ds.DataStore;
+import com.okta.sdk.impl.ds.InternalDataStore;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A persistent cache for Okta API lookups that rarely change, e.g. the org's authorization servers or the id of the
+ * {@code Everyone} group. Each entry is stored as a JSON file in {@code ~/.okta/cache/lookups}, keyed by the org URL
+ * and the {@link Lookup}, and is used until the lookup's TTL expires.
+ * <p>
+ * When the cache is disabled (the CLI's {@code --no-cache} option), lookups cached by earlier runs are not used, each
+ * lookup is made again and replaces the cached entry. Lookups made by the current process are always shared. Failures
+ * reading or writing the cache are logged and otherwise ignored, the cache is only an optimization.
+ */
+@Slf4j
+public final class LookupCache {
+
+    private static final String ENTRY_SUFFIX = ".json";
+
+    private static LookupCache instance;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final Map<String, JsonNode> loaded = new ConcurrentHashMap<>();
+    private final Path cacheDir;
+    private volatile boolean enabled = true;
+
+    LookupCache(Path cacheDir) {
+        this.cacheDir = cacheDir;
+    }
+
+    /**
+     * Returns the cache shared by all lookups in this process.
+     */
+    public static synchronized LookupCache getInstance() {
+        if (instance == null) {
+            instance = new LookupCache(Settings.getCacheDir().resolve("lookups"));
+        }
+        return instance;
+    }
+
+    /**
+     * Returns the org URL used to key the lookups made with {@code client}, or null if the client's data store does
+     * not expose one (lookups are then never cached).
+     */
+    static String orgUrl(Client client) {
+        DataStore dataStore = client.getDataStore();
+        return dataStore instanceof InternalDataStore
+                ? ((InternalDataStore) dataStore).getBaseUrl()
+                : null;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    <T> Optional<T> get(String orgUrl, Lookup lookup, TypeReference<T> type) {
+        if (orgUrl == null) {
+            return Optional.empty();
+        }
+
+        // lookups made by this process are shared, even when the cache is disabled
+        String key = key(orgUrl, lookup);
+        JsonNode value = loaded.get(key);
+        if (value == null && enabled) {
+            value = read(orgUrl, lookup);
+            if (value != null) {
+                loaded.put(key, value);
+            }
+        }
+        (value != null ? hits : misses).incrementAndGet();
+
+        try {
+            return value == null ? Optional.empty() : Optional.ofNullable(objectMapper.convertValue(value, type));
+        } catch (IllegalArgumentException e) {
+            log.debug("Failed to convert cached {} for {}", lookup.getName(), orgUrl, e);
+            return Optional.empty();
+        }
+    }
+
+    void put(String orgUrl, Lookup lookup, Object value) {
+        if (orgUrl == null) {
+            return;
+        }
+
+        JsonNode valueNode = objectMapper.valueToTree(value);
+        loaded.put(key(orgUrl, lookup), valueNode);
+
+        ObjectNode entry = objectMapper.createObjectNode()
+                .put("orgUrl", orgUrl)
+                .put("lookup", lookup.getName())
+                .put("stored", Instant.now().toEpochMilli());
+        entry.set("value", valueNode);
+
+        try {
+            Files.createDirectories(cacheDir);
+            Path tempFile = Files.createTempFile(cacheDir, key(orgUrl, lookup), ".tmp");
+            Files.write(tempFile, objectMapper.writeValueAsBytes(entry));
+            Files.move(tempFile, entryFile(orgUrl, lookup), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.debug("Failed to cache {} for {}", lookup.getName(), orgUrl, e);
+        }
+    }
+
+    /**
+     * Removes a cached lookup, e.g. after a lookup returned a stale result.
+     */
+    void invalidate(String orgUrl, Lookup lookup) {
+        if (orgUrl == null) {
+            return;
+        }
+
+        loaded.remove(key(orgUrl, lookup));
+        try {
+            Files.deleteIfExists(entryFile(orgUrl, lookup));
+        } catch (IOException e) {
+            log.debug("Failed to remove cached {} for {}", lookup.getName(), orgUrl, e);
+        }
+    }
+
+    private JsonNode read(String orgUrl, Lookup lookup) {
+        try {
+            JsonNode entry = objectMapper.readTree(Files.readAllBytes(entryFile(orgUrl, lookup)));
+
+            // guard against hash collisions and partially written entries
+            if (!orgUrl.equals(entry.path("orgUrl").asText()) || !lookup.getName().equals(entry.path("lookup").asText())) {
+                return null;
+            }
+
+            Instant stored = Instant.ofEpochMilli(entry.path("stored").asLong());
+            if (!stored.plus(lookup.getTtl()).isAfter(Instant.now())) {
+                return null;
+            }
+
+            return entry.get("value");
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException | RuntimeException e) {
+            log.debug("Failed to read cached {} for {}", lookup.getName(), orgUrl, e);
+            return null;
+        }
+    }
+
+    private Path entryFile(String orgUrl, Lookup lookup) {
+        return cacheDir.resolve(key(orgUrl, lookup) + ENTRY_SUFFIX);
+    }
+
+    private static String key(String orgUrl, Lookup lookup) {
+        return Hashing.sha256().hashString(orgUrl + "\n" + lookup.getName(), UTF_8).toString();
+    }
+
+    /**
+     * The cached lookups and their default TTLs, the TTL of each lookup can be changed with a system property or
+     * environment variable, see {@link Settings#getLookupCacheTtl(String, String, int)}.
+     */
+    public enum Lookup {
+
+        /**
+         * The org's authorization servers, new servers are rarely added, but a short TTL keeps the list current.
+         */
+        AUTHORIZATION_SERVERS("authorizationServers", Duration.ofHours(1)),
+
+        /**
+         * The id of the built-in {@code Everyone} group, it never changes for an org.
+         */
+        EVERYONE_GROUP("everyoneGroup", Duration.ofDays(7));
+
+        private final String name;
+        private final Duration defaultTtl;
+
+        Lookup(String name, Duration defaultTtl) {
+            this.name = name;
+            this.defaultTtl = defaultTtl;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public Duration getTtl() {
+            return Duration.ofSeconds(Settings.getLookupCacheTtl(name, name(), (int) defaultTtl.getSeconds()));
+        }
+    }
+}
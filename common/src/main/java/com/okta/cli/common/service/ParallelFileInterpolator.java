@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Interpolates files on a work-stealing pool, files are submitted as they are found (e.g. while walking a directory
+ * tree) and {@link #await()} waits for all of them. Binary files are skipped, as are files that have not changed
+ * since the last run, when an {@link InterpolationManifestTracker} is used.
+ * <p>
+ * Errors are reported deterministically: when several files fail, the failure for the first file (in path order) is
+ * thrown, with the others added as suppressed exceptions.
+ * <p>
+ * The parallelism can be configured with the {@code OKTA_CLI_FILTER_THREADS} env var or the
+ * {@code okta.cli.filterThreads} system property, it defaults to the number of processors.
+ */
+public class ParallelFileInterpolator {
+
+    private final Interpolator interpolator;
+    private final Map<String, String> context;
+    private final BinaryFileDetector binaryFiles;
+    private final InterpolationManifestTracker manifest;
+    private final ForkJoinPool pool;
+    private final List<FileTask> tasks = new ArrayList<>();
+
+    public ParallelFileInterpolator(Interpolator interpolator, Map<String, String> context, BinaryFileDetector binaryFiles) {
+        this(interpolator, context, binaryFiles, null);
+    }
+
+    /**
+     * @param manifest tracks the files filtered in previous runs, may be null
+     */
+    public ParallelFileInterpolator(Interpolator interpolator, Map<String, String> context, BinaryFileDetector binaryFiles,
+                                    InterpolationManifestTracker manifest) {
+        this(interpolator, context, binaryFiles, manifest, Settings.getFilterThreads());
+    }
+
+    ParallelFileInterpolator(Interpolator interpolator, Map<String, String> context, BinaryFileDetector binaryFiles,
+                             InterpolationManifestTracker manifest, int parallelism) {
+        this.interpolator = interpolator;
+        this.context = context;
+        this.binaryFiles = binaryFiles;
+        this.manifest = manifest;
+        this.pool = new ForkJoinPool(Math.max(1, parallelism));
+    }
+
+    /**
+     * Queues a file to be interpolated.
+     */
+    public void submit(Path file) {
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
+            try {
+                if (manifest != null && manifest.isUpToDate(file)) {
+                    return;
+                }
+                boolean binary = binaryFiles.isBinary(file);
+                if (!binary) {
+                    interpolator.interpolate(file, context);
+                }
+                if (manifest != null) {
+                    manifest.record(file, binary);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, pool);
+        tasks.add(new FileTask(file, future));
+    }
+
+    /**
+     * Waits for all submitted files to be interpolated, shuts down the pool and saves the manifest (if any). Files
+     * that failed are not added to the manifest.
+     * @throws IOException if any of the files failed
+     */
+    public void await() throws IOException {
+        Map<Path, Throwable> failures = new TreeMap<>();
+        try {
+            for (FileTask task : tasks) {
+                try {
+                    task.future.join();
+                } catch (CompletionException e) {
+                    Throwable cause = e.getCause() instanceof UncheckedIOException ? e.getCause().getCause() : e.getCause();
+                    failures.put(task.file, cause);
+                }
+            }
+        } finally {
+            tasks.clear();
+            pool.shutdown();
+        }
+
+        if (manifest != null) {
+            manifest.save();
+        }
+
+        if (!failures.isEmpty()) {
+            Map.Entry<Path, Throwable> first = failures.entrySet().iterator().next();
+            IOException e = new IOException("Failed to filter " + failures.size() + " file(s), first failure: " + first.getKey(), first.getValue());
+            failures.values().stream()
+                    .skip(1)
+                    .forEach(e::addSuppressed);
+            throw e;
+        }
+    }
+
+    private static class FileTask {
+
+        private final Path file;
+        private final CompletableFuture<Void> future;
+
+        FileTask(Path file, CompletableFuture<Void> future) {
+            this.file = file;
+            this.future = future;
+        }
+    }
+}
@@ -0,0 +1,221 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.http.HttpHost;
+import org.apache.http.HttpResponseInterceptor;
+import org.apache.http.config.Registry;
+import org.apache.http.config.RegistryBuilder;
+import org.apache.http.conn.socket.ConnectionSocketFactory;
+import org.apache.http.conn.socket.LayeredConnectionSocketFactory;
+import org.apache.http.conn.socket.PlainConnectionSocketFactory;
+import org.apache.http.conn.ssl.SSLConnectionSocketFactory;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.protocol.HttpContext;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Holds a single pooled, keep-alive {@link CloseableHttpClient} for the lifetime of the CLI process. All the REST
+ * calls made by the CLI (start.okta.dev, registration, and sample tarball downloads) share this client, so only the
+ * first request to a host pays for the DNS lookup, TCP connect, and TLS handshake.
+ * <p>
+ * The pool size and idle eviction timeout can be configured with the {@code OKTA_CLI_HTTP_MAX_CONNECTIONS} and
+ * {@code OKTA_CLI_HTTP_IDLE_TIMEOUT} env vars (or the {@code okta.cli.http.maxConnections} and
+ * {@code okta.cli.http.idleTimeout} system properties).
+ */
+@Slf4j
+public final class PooledHttpClient {
+
+    private static final String CONNECT_NANOS_ATTRIBUTE = PooledHttpClient.class.getName() + ".connectNanos";
+
+    private static final ConnectionStats STATS = new ConnectionStats();
+
+    private static CloseableHttpClient httpClient;
+
+    private PooledHttpClient() {}
+
+    /**
+     * Returns the shared HTTP client, creating it on first use. The returned client must NOT be closed by the caller,
+     * it is closed when the JVM exits.
+     * @return the shared HTTP client
+     */
+    public static synchronized CloseableHttpClient get() {
+        if (httpClient == null) {
+            httpClient = createHttpClient(Settings.getHttpMaxConnections(), Settings.getHttpIdleTimeout());
+            Runtime.getRuntime().addShutdownHook(new Thread(PooledHttpClient::close, "okta-cli-http-shutdown"));
+        }
+        return httpClient;
+    }
+
+    /**
+     * Statistics about the connections opened by the shared client.
+     * @return the connection statistics for this process
+     */
+    public static ConnectionStats stats() {
+        return STATS;
+    }
+
+    static synchronized void close() {
+        if (httpClient != null) {
+            try {
+                httpClient.close();
+            } catch (IOException e) {
+                log.debug("Failed to close HTTP connection pool", e);
+            }
+            httpClient = null;
+            log.debug("HTTP connection pool closed: {}", STATS);
+        }
+    }
+
+    private static CloseableHttpClient createHttpClient(int maxConnections, int idleTimeoutSeconds) {
+
+        Registry<ConnectionSocketFactory> socketFactoryRegistry = RegistryBuilder.<ConnectionSocketFactory>create()
+                .register("http", new TimedConnectionSocketFactory(PlainConnectionSocketFactory.getSocketFactory()))
+                .register("https", new TimedLayeredConnectionSocketFactory(SSLConnectionSocketFactory.getSystemSocketFactory()))
+                .build();
+
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager(socketFactoryRegistry);
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnections);
+
+        return HttpClients.custom()
+                .useSystemProperties()
+                .setConnectionManager(connectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(idleTimeoutSeconds, TimeUnit.SECONDS)
+                .addInterceptorLast((HttpResponseInterceptor) (response, context) -> recordRequest(context))
+                .build();
+    }
+
+    private static void recordRequest(HttpContext context) {
+        Object connectNanos = context.getAttribute(CONNECT_NANOS_ATTRIBUTE);
+        if (connectNanos == null) {
+            STATS.reusedRequests.incrementAndGet();
+            log.debug("Request reused a pooled connection, saving ~{}ms", STATS.averageConnectTime().toMillis());
+        } else {
+            log.debug("Request opened a new connection in {}ms", TimeUnit.NANOSECONDS.toMillis((Long) connectNanos));
+        }
+    }
+
+    private static void recordConnect(HttpContext context, long startNanos) {
+        long elapsed = System.nanoTime() - startNanos;
+        STATS.connections.incrementAndGet();
+        STATS.connectNanos.addAndGet(elapsed);
+        context.setAttribute(CONNECT_NANOS_ATTRIBUTE, elapsed);
+    }
+
+    /**
+     * Connection statistics used to estimate the latency saved by reusing pooled connections.
+     */
+    public static final class ConnectionStats {
+
+        private final AtomicLong connections = new AtomicLong();
+        private final AtomicLong connectNanos = new AtomicLong();
+        private final AtomicLong reusedRequests = new AtomicLong();
+
+        /**
+         * Clears the statistics, used by tests.
+         */
+        void reset() {
+            connections.set(0);
+            connectNanos.set(0);
+            reusedRequests.set(0);
+        }
+
+        public long getConnections() {
+            return connections.get();
+        }
+
+        public long getReusedRequests() {
+            return reusedRequests.get();
+        }
+
+        /**
+         * The average time spent in the TCP connect and TLS handshake for a new connection.
+         * @return average connection setup time
+         */
+        public Duration averageConnectTime() {
+            long count = connections.get();
+            return count == 0
+                    ? Duration.ZERO
+                    : Duration.ofNanos(connectNanos.get() / count);
+        }
+
+        /**
+         * An estimate of the latency saved, based on the number of requests that reused a connection and the
+         * average connection setup time.
+         * @return the estimated latency saved by connection reuse
+         */
+        public Duration latencySaved() {
+            return averageConnectTime().multipliedBy(reusedRequests.get());
+        }
+
+        @Override
+        public String toString() {
+            return "connections=" + getConnections()
+                    + ", reusedRequests=" + getReusedRequests()
+                    + ", averageConnectTime=" + averageConnectTime().toMillis() + "ms"
+                    + ", latencySaved=" + latencySaved().toMillis() + "ms";
+        }
+    }
+
+    private static class TimedConnectionSocketFactory implements ConnectionSocketFactory {
+
+        private final ConnectionSocketFactory delegate;
+
+        TimedConnectionSocketFactory(ConnectionSocketFactory delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Socket createSocket(HttpContext context) throws IOException {
+            return delegate.createSocket(context);
+        }
+
+        @Override
+        public Socket connectSocket(int connectTimeout, Socket sock, HttpHost host, InetSocketAddress remoteAddress,
+                                    InetSocketAddress localAddress, HttpContext context) throws IOException {
+            long start = System.nanoTime();
+            Socket socket = delegate.connectSocket(connectTimeout, sock, host, remoteAddress, localAddress, context);
+            recordConnect(context, start);
+            return socket;
+        }
+    }
+
+    private static class TimedLayeredConnectionSocketFactory extends TimedConnectionSocketFactory implements LayeredConnectionSocketFactory {
+
+        private final LayeredConnectionSocketFactory delegate;
+
+        TimedLayeredConnectionSocketFactory(LayeredConnectionSocketFactory delegate) {
+            super(delegate);
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Socket createLayeredSocket(Socket socket, String target, int port, HttpContext context) throws IOException {
+            return delegate.createLayeredSocket(socket, target, port, context);
+        }
+    }
+}
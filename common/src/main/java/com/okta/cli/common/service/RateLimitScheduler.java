@@ -0,0 +1,261 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service;
+
+import com.okta.commons.http.HttpHeaders;
+import com.okta.commons.http.Request;
+import com.okta.commons.http.Response;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Paces Okta API requests so they stay under the org's rate limits. Okta limits each endpoint separately, and reports
+ * the limit, the number of remaining requests, and the time the current window resets in the
+ * {@code X-Rate-Limit-Limit}, {@code X-Rate-Limit-Remaining} and {@code X-Rate-Limit-Reset} response headers.
+ * <p>
+ * Requests are grouped into buckets by method and path (with ids replaced by a placeholder). Each request takes a token
+ * from its bucket, when none are left the request waits until the bucket's window resets and a token is available, up
+ * to {@code okta.cli.rateLimit.maxWait} seconds. Buckets that have not seen a response yet are not limited.
+ * <p>
+ * A single scheduler is shared by all Okta SDK clients in the process, see {@link #getInstance()}.
+ */
+@Slf4j
+public class RateLimitScheduler {
+
+    static final String LIMIT_HEADER = "X-Rate-Limit-Limit";
+    static final String REMAINING_HEADER = "X-Rate-Limit-Remaining";
+    static final String RESET_HEADER = "X-Rate-Limit-Reset";
+
+    // Okta ids are 20 alphanumeric characters, e.g. 0oa1b2c3d4e5f6g7h8i9
+    private static final Pattern ID_SEGMENT = Pattern.compile("/[0-9A-Za-z]{20}(?=/|$)");
+
+    // how often a waiting request checks for a token when the current window's reset time is not known yet
+    private static final long UNKNOWN_WINDOW_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private static RateLimitScheduler instance;
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Duration maxWait;
+    private final Clock clock;
+
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger maxQueueDepth = new AtomicInteger();
+    private final AtomicLong delayedRequests = new AtomicLong();
+    private final AtomicLong totalWaitNanos = new AtomicLong();
+
+    RateLimitScheduler(Duration maxWait, Clock clock) {
+        this.maxWait = maxWait;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the scheduler shared by all Okta SDK clients in this process.
+     */
+    public static synchronized RateLimitScheduler getInstance() {
+        if (instance == null) {
+            instance = new RateLimitScheduler(Duration.ofSeconds(Settings.getRateLimitMaxWait()), Clock.SYSTEM);
+        }
+        return instance;
+    }
+
+    /**
+     * The number of requests currently waiting for a rate limit window to reset.
+     */
+    public int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    /**
+     * The largest number of requests that waited at the same time.
+     */
+    public int getMaxQueueDepth() {
+        return maxQueueDepth.get();
+    }
+
+    /**
+     * The number of requests that waited for a rate limit window to reset.
+     */
+    public long getDelayedRequests() {
+        return delayedRequests.get();
+    }
+
+    /**
+     * The total time requests spent waiting for rate limit windows to reset.
+     */
+    public Duration getTotalWaitTime() {
+        return Duration.ofNanos(totalWaitNanos.get());
+    }
+
+    /**
+     * Blocks until the request's bucket has a token available, or the max wait time has passed.
+     */
+    void acquire(Request request) throws InterruptedException {
+        String key = bucketKey(request);
+        Bucket bucket = buckets.computeIfAbsent(key, it -> new Bucket());
+        long waitNanos = bucket.take(clock.nanoTime());
+        if (waitNanos <= 0) {
+            return;
+        }
+
+        log.debug("Rate limit reached for {}, waiting {}ms", key, TimeUnit.NANOSECONDS.toMillis(waitNanos));
+        maxQueueDepth.accumulateAndGet(queueDepth.incrementAndGet(), Math::max);
+        delayedRequests.incrementAndGet();
+        long waitedNanos = 0;
+        try {
+            // other requests waiting on the same bucket compete for the new window's tokens, keep waiting until one is
+            // taken, so the queued requests are not all sent at once
+            while (waitNanos > 0 && waitedNanos < maxWait.toNanos()) {
+                long sleepNanos = Math.min(waitNanos, maxWait.toNanos() - waitedNanos);
+                clock.sleep(sleepNanos);
+                waitedNanos += sleepNanos;
+                waitNanos = bucket.take(clock.nanoTime());
+            }
+            if (waitNanos > 0) {
+                log.debug("Rate limit wait for {} exceeded {}s, sending request anyway", key, maxWait.getSeconds());
+            }
+        } finally {
+            queueDepth.decrementAndGet();
+            totalWaitNanos.addAndGet(waitedNanos);
+        }
+    }
+
+    /**
+     * Updates the request's bucket from the rate limit headers of the response.
+     */
+    void update(Request request, Response response) {
+        HttpHeaders headers = response.getHeaders();
+        if (headers == null) {
+            return;
+        }
+
+        Long limit = longHeader(headers, LIMIT_HEADER);
+        Long remaining = longHeader(headers, REMAINING_HEADER);
+        Long reset = longHeader(headers, RESET_HEADER);
+        if (limit == null || remaining == null || reset == null) {
+            return;
+        }
+
+        // the reset header is an epoch time on the server's clock, use the Date header to correct for clock skew
+        long serverNowMillis = serverTime(headers);
+        long resetNanos = clock.nanoTime() + TimeUnit.MILLISECONDS.toNanos(Math.max(0, reset * 1000 - serverNowMillis));
+
+        buckets.computeIfAbsent(bucketKey(request), key -> new Bucket())
+                .update(limit, remaining, reset, resetNanos);
+    }
+
+    static String bucketKey(Request request) {
+        return request.getMethod() + " " + ID_SEGMENT.matcher(request.getResourceUrl().getPath()).replaceAll("/{id}");
+    }
+
+    private long serverTime(HttpHeaders headers) {
+        try {
+            long date = headers.getDate();
+            if (date > 0) {
+                return date;
+            }
+        } catch (IllegalArgumentException e) {
+            log.debug("Invalid Date header: {}", headers.getFirst("Date"));
+        }
+        return clock.currentTimeMillis();
+    }
+
+    private static Long longHeader(HttpHeaders headers, String name) {
+        String value = headers.getFirst(name);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static class Bucket {
+
+        private long limit = -1;
+        private long remaining;
+        private long resetEpochSeconds;
+        private long resetNanos;
+        // false once the window has reset locally, until a response reports the next window
+        private boolean windowKnown;
+
+        /**
+         * Takes a token if one is available, otherwise returns how long the caller should wait before trying again.
+         */
+        synchronized long take(long nowNanos) {
+            if (limit < 0) {
+                // no rate limit headers seen yet
+                return 0;
+            }
+            // System.nanoTime() can be negative, only compare the difference
+            if (windowKnown && nowNanos - resetNanos >= 0) {
+                // a new window has started, the next response will report the actual remaining requests
+                remaining = limit;
+                windowKnown = false;
+            }
+            if (remaining > 0) {
+                remaining--;
+                return 0;
+            }
+            return windowKnown ? Math.max(1, resetNanos - nowNanos) : UNKNOWN_WINDOW_POLL_NANOS;
+        }
+
+        synchronized void update(long limit, long remaining, long resetEpochSeconds, long resetNanos) {
+            if (resetEpochSeconds > this.resetEpochSeconds) {
+                // a new window
+                this.remaining = remaining;
+            } else if (resetEpochSeconds == this.resetEpochSeconds && windowKnown) {
+                // responses can arrive out of order, keep the lowest value reported for the window
+                this.remaining = Math.min(this.remaining, remaining);
+            } else {
+                // a response from an earlier window, or from a window that has already reset
+                return;
+            }
+            this.limit = limit;
+            this.resetEpochSeconds = resetEpochSeconds;
+            this.resetNanos = resetNanos;
+            this.windowKnown = true;
+        }
+    }
+
+    /**
+     * The time source, replaced in tests.
+     */
+    interface Clock {
+
+        Clock SYSTEM = new Clock() {};
+
+        default long nanoTime() {
+            return System.nanoTime();
+        }
+
+        default long currentTimeMillis() {
+            return System.currentTimeMillis();
+        }
+
+        default void sleep(long nanos) throws InterruptedException {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service;
+
+import com.okta.commons.http.HttpException;
+import com.okta.commons.http.Request;
+import com.okta.commons.http.RequestExecutor;
+import com.okta.commons.http.RequestExecutorFactory;
+import com.okta.commons.http.Response;
+import com.okta.commons.http.RetryRequestExecutor;
+import com.okta.commons.http.config.HttpClientConfiguration;
+import com.okta.commons.http.httpclient.HttpClientRequestExecutor;
+
+/**
+ * Creates the same request executors as the SDK's default {@code HttpClientRequestExecutorFactory}, with each request
+ * (including retries) paced by a {@link RateLimitScheduler}. Register it with
+ * {@code ClientBuilder.setRequestExecutorFactory()}.
+ */
+public class RateLimitingRequestExecutorFactory implements RequestExecutorFactory {
+
+    private final RateLimitScheduler scheduler;
+
+    public RateLimitingRequestExecutorFactory() {
+        this(RateLimitScheduler.getInstance());
+    }
+
+    public RateLimitingRequestExecutorFactory(RateLimitScheduler scheduler) {
+        this.scheduler = scheduler;
+    }
+
+    @Override
+    public RequestExecutor create(HttpClientConfiguration clientConfiguration) {
+        // the scheduler sits inside the retry executor, so requests retried after a 429 are paced too
+        return new RetryRequestExecutor(clientConfiguration,
+                new RateLimitingRequestExecutor(new HttpClientRequestExecutor(clientConfiguration), scheduler));
+    }
+
+    static class RateLimitingRequestExecutor implements RequestExecutor {
+
+        private final RequestExecutor delegate;
+        private final RateLimitScheduler scheduler;
+
+        RateLimitingRequestExecutor(RequestExecutor delegate, RateLimitScheduler scheduler) {
+            this.delegate = delegate;
+            this.scheduler = scheduler;
+        }
+
+        @Override
+        public Response executeRequest(Request request) throws HttpException {
+            try {
+                scheduler.acquire(request);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new HttpException("Interrupted while waiting for the Okta API rate limit to reset", e);
+            }
+
+            Response response = delegate.executeRequest(request);
+            scheduler.update(request, response);
+            return response;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service;
+
+import com.google.common.hash.Hashing;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A small persistent HTTP response cache, used for resources that rarely change (e.g. the list of samples from
+ * start.okta.dev). Each entry is stored as a body file and a properties file containing the URL, ETag and the time
+ * the response was last validated with the server.
+ * <p>
+ * Entries younger than the TTL are used without a network request, older entries are revalidated with an
+ * {@code If-None-Match} request. When the cache grows past its size limit, the least recently validated entries are
+ * removed. Failures reading or writing the cache are logged and otherwise ignored, the cache is only an optimization.
+ */
+@Slf4j
+class ResponseCache {
+
+    private static final String BODY_SUFFIX = ".body";
+    private static final String META_SUFFIX = ".properties";
+
+    private final Path cacheDir;
+    private final Duration ttl;
+    private final long maxSizeBytes;
+
+    ResponseCache(Path cacheDir, Duration ttl, long maxSizeBytes) {
+        this.cacheDir = cacheDir;
+        this.ttl = ttl;
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    static ResponseCache create() {
+        return new ResponseCache(Settings.getCacheDir().resolve("http"),
+                Duration.ofSeconds(Settings.getCacheTtl()),
+                Settings.getHttpCacheMaxSize() * 1024L);
+    }
+
+    Optional<Entry> get(String url) {
+        String key = key(url);
+        Path metaFile = cacheDir.resolve(key + META_SUFFIX);
+        Path bodyFile = cacheDir.resolve(key + BODY_SUFFIX);
+
+        try (Reader reader = Files.newBufferedReader(metaFile, UTF_8)) {
+            Properties meta = new Properties();
+            meta.load(reader);
+
+            // guard against hash collisions and partially written entries
+            if (!url.equals(meta.getProperty("url"))) {
+                return Optional.empty();
+            }
+
+            Instant validated = Instant.ofEpochMilli(Long.parseLong(meta.getProperty("validated", "0")));
+            return Optional.of(new Entry(Files.readAllBytes(bodyFile), meta.getProperty("etag"), validated));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            log.debug("Failed to read cached response for {}", url, e);
+            return Optional.empty();
+        }
+    }
+
+    void put(String url, String etag, byte[] body) {
+        String key = key(url);
+        try {
+            Files.createDirectories(cacheDir);
+            writeAtomically(cacheDir.resolve(key + BODY_SUFFIX), body);
+            writeMetadata(key, url, etag);
+            evictIfNeeded();
+        } catch (IOException e) {
+            log.debug("Failed to cache response for {}", url, e);
+        }
+    }
+
+    /**
+     * Marks an existing entry as validated, after the server responded with a {@code 304 Not Modified}.
+     */
+    void touch(String url, String etag) {
+        try {
+            writeMetadata(key(url), url, etag);
+        } catch (IOException e) {
+            log.debug("Failed to update cached response for {}", url, e);
+        }
+    }
+
+    boolean isFresh(Entry entry) {
+        return entry.getValidated().plus(ttl).isAfter(Instant.now());
+    }
+
+    private void writeMetadata(String key, String url, String etag) throws IOException {
+        Properties meta = new Properties();
+        meta.setProperty("url", url);
+        meta.setProperty("validated", Long.toString(Instant.now().toEpochMilli()));
+        if (etag != null) {
+            meta.setProperty("etag", etag);
+        }
+
+        Path metaFile = cacheDir.resolve(key + META_SUFFIX);
+        Path tempFile = Files.createTempFile(cacheDir, key, ".tmp");
+        try (Writer writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+            meta.store(writer, null);
+        }
+        Files.move(tempFile, metaFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void writeAtomically(Path file, byte[] content) throws IOException {
+        Path tempFile = Files.createTempFile(cacheDir, file.getFileName().toString(), ".tmp");
+        Files.write(tempFile, content);
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private void evictIfNeeded() throws IOException {
+        List<Path> bodies;
+        try (Stream<Path> files = Files.list(cacheDir)) {
+            bodies = files.filter(it -> it.getFileName().toString().endsWith(BODY_SUFFIX))
+                    .sorted(Comparator.comparing(ResponseCache::lastValidated))
+                    .collect(Collectors.toList());
+        }
+
+        long totalSize = 0;
+        for (Path body : bodies) {
+            totalSize += Files.size(body);
+        }
+
+        // remove the oldest entries first
+        for (Path body : bodies) {
+            if (totalSize <= maxSizeBytes) {
+                break;
+            }
+            String fileName = body.getFileName().toString();
+            String key = fileName.substring(0, fileName.length() - BODY_SUFFIX.length());
+            totalSize -= Files.size(body);
+            Files.deleteIfExists(cacheDir.resolve(key + META_SUFFIX));
+            Files.deleteIfExists(body);
+        }
+    }
+
+    private static FileTime lastValidated(Path bodyFile) {
+        String fileName = bodyFile.getFileName().toString();
+        Path metaFile = bodyFile.resolveSibling(fileName.substring(0, fileName.length() - BODY_SUFFIX.length()) + META_SUFFIX);
+        try {
+            return Files.getLastModifiedTime(metaFile);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static String key(String url) {
+        return Hashing.sha256().hashString(url, UTF_8).toString();
+    }
+
+    static class Entry {
+
+        private final byte[] body;
+        private final String etag;
+        private final Instant validated;
+
+        Entry(byte[] body, String etag, Instant validated) {
+            this.body = body;
+            this.etag = etag;
+            this.validated = validated;
+        }
+
+        byte[] getBody() {
+            return body;
+        }
+
+        String getEtag() {
+            return etag;
+        }
+
+        Instant getValidated() {
+            return validated;
+        }
+    }
+}
@@ -25,7 +25,9 @@ import static java.util.Collections.emptyMap;
 
 public interface SampleConfigParser {
 
-    String SAMPLE_CONFIG_PATH = ".okta/sample-config.yaml";
+    String SAMPLE_CONFIG_DIR = ".okta";
+
+    String SAMPLE_CONFIG_PATH = SAMPLE_CONFIG_DIR + "/sample-config.yaml";
 
     default OktaSampleConfig loadConfig(File localPath) throws IOException {
         return parseConfig(new File(localPath, SAMPLE_CONFIG_PATH));
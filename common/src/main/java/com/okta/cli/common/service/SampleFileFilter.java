@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Selects the files in a sample project that may contain placeholders, using the {@code include} and {@code exclude}
+ * globs from the sample's config. Paths are relative to the project root and use {@code /} as a separator:
+ * <ul>
+ *     <li>a glob without a {@code /} matches a file or directory name at any depth, e.g. {@code node_modules}</li>
+ *     <li>otherwise the glob matches the full relative path, e.g. {@code src/main/resources/*.properties}</li>
+ * </ul>
+ * A file is filtered if neither it nor any of its parent directories is excluded, and it matches one of the
+ * includes (if any). The {@link #DEFAULT_EXCLUDES} are always excluded.
+ */
+public class SampleFileFilter implements Predicate<String> {
+
+    /**
+     * Directories that never contain placeholders, but may contain a large number of files: version control,
+     * dependencies, and Maven/Gradle build output.
+     */
+    public static final List<String> DEFAULT_EXCLUDES = List.of(".git", "node_modules", "target", "build");
+
+    private final List<Glob> includes;
+    private final List<Glob> excludes;
+
+    public SampleFileFilter() {
+        this(Collections.emptyList(), Collections.emptyList());
+    }
+
+    public SampleFileFilter(Collection<String> includes, Collection<String> excludes) {
+        List<String> allExcludes = new ArrayList<>(DEFAULT_EXCLUDES);
+        if (excludes != null) {
+            allExcludes.addAll(excludes);
+        }
+        this.includes = compile(includes);
+        this.excludes = compile(allExcludes);
+    }
+
+    /**
+     * Returns true if the file should be filtered.
+     * @param relativePath the file's path, relative to the project root
+     */
+    @Override
+    public boolean test(String relativePath) {
+        Path path = Paths.get(relativePath);
+        // check the parent directories too, the extractor sees the files of excluded directories
+        for (int i = 1; i <= path.getNameCount(); i++) {
+            if (matches(excludes, path.subpath(0, i))) {
+                return false;
+            }
+        }
+        return includes.isEmpty() || matches(includes, path);
+    }
+
+    /**
+     * Returns true if the directory (and everything in it) should be skipped, the parent directories are NOT checked.
+     * @param relativePath the directory's path, relative to the project root
+     */
+    public boolean isExcludedDirectory(String relativePath) {
+        return !relativePath.isEmpty() && matches(excludes, Paths.get(relativePath));
+    }
+
+    private static boolean matches(List<Glob> globs, Path path) {
+        return globs.stream().anyMatch(glob -> glob.matches(path));
+    }
+
+    private static List<Glob> compile(Collection<String> globs) {
+        if (globs == null) {
+            return Collections.emptyList();
+        }
+        return globs.stream()
+                .map(String::trim)
+                .filter(glob -> !glob.isEmpty())
+                .map(Glob::new)
+                .collect(Collectors.toList());
+    }
+
+    private static class Glob {
+
+        private final boolean nameOnly;
+        private final PathMatcher matcher;
+
+        Glob(String glob) {
+            // a trailing slash only marks a directory, which is how it would be written in a .gitignore
+            String pattern = glob.endsWith("/") ? glob.substring(0, glob.length() - 1) : glob;
+            this.nameOnly = !pattern.contains("/");
+            this.matcher = FileSystems.getDefault().getPathMatcher("glob:" + pattern);
+        }
+
+        boolean matches(Path path) {
+            return matcher.matches(nameOnly ? path.getFileName() : path);
+        }
+    }
+}
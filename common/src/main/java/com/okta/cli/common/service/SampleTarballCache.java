@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service;
+
+import com.google.common.hash.Hashing;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * A content-addressed store of downloaded sample tarballs. Tarballs are stored by a hash of their URL and ETag (for
+ * GitHub tarballs the ETag identifies the commit), a small reference file maps each URL to the ETag of the last
+ * download.
+ * <p>
+ * Files are written to a temporary file and atomically moved into place, so CLI processes running at the same time
+ * never see a partially written tarball. When the store grows past its size limit, the least recently used tarballs
+ * are removed. As with the {@link ResponseCache}, the store is only an optimization, failures to update it are logged
+ * and otherwise ignored.
+ */
+@Slf4j
+class SampleTarballCache {
+
+    private static final String BLOB_SUFFIX = ".tar.gz";
+    private static final String REF_SUFFIX = ".ref";
+
+    private final Path cacheDir;
+    private final long maxSizeBytes;
+
+    SampleTarballCache(Path cacheDir, long maxSizeBytes) {
+        this.cacheDir = cacheDir;
+        this.maxSizeBytes = maxSizeBytes;
+    }
+
+    static SampleTarballCache create() {
+        return new SampleTarballCache(Settings.getCacheDir().resolve("samples"),
+                Settings.getSampleCacheMaxSize() * 1024L * 1024L);
+    }
+
+    /**
+     * Returns the last downloaded tarball for a URL.
+     */
+    Optional<Entry> get(String url) {
+        Path refFile = cacheDir.resolve(key(url) + REF_SUFFIX);
+
+        try (Reader reader = Files.newBufferedReader(refFile, UTF_8)) {
+            Properties ref = new Properties();
+            ref.load(reader);
+
+            // guard against hash collisions
+            if (!url.equals(ref.getProperty("url"))) {
+                return Optional.empty();
+            }
+
+            String etag = ref.getProperty("etag");
+            Path blob = blobFile(url, etag);
+            if (!Files.isRegularFile(blob)) {
+                // the tarball has been evicted
+                return Optional.empty();
+            }
+            return Optional.of(new Entry(blob, etag));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException | RuntimeException e) {
+            log.debug("Failed to read cached sample for {}", url, e);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Stores a downloaded tarball and returns the new entry.
+     * @throws IOException if the content could not be read, the cache is left unchanged
+     */
+    Entry put(String url, String etag, InputStream content) throws IOException {
+        Files.createDirectories(cacheDir);
+        Path blob = blobFile(url, etag);
+        Path tempFile = Files.createTempFile(cacheDir, blob.getFileName().toString(), ".tmp");
+        try {
+            Files.copy(content, tempFile, StandardCopyOption.REPLACE_EXISTING);
+            // another process may have stored the same content, it is identical, so replacing it is safe
+            Files.move(tempFile, blob, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+
+        try {
+            writeRef(url, etag);
+        } catch (IOException e) {
+            log.debug("Failed to update cached sample reference for {}", url, e);
+        }
+        return new Entry(blob, etag);
+    }
+
+    /**
+     * Marks an entry as recently used.
+     */
+    void touch(Entry entry) {
+        try {
+            Files.setLastModifiedTime(entry.getTarball(), FileTime.from(Instant.now()));
+        } catch (IOException e) {
+            log.debug("Failed to update cached sample {}", entry.getTarball(), e);
+        }
+    }
+
+    /**
+     * Removes the least recently used tarballs until the cache is smaller than its size limit.
+     */
+    void evictIfNeeded() {
+        if (!Files.isDirectory(cacheDir)) {
+            return;
+        }
+
+        try {
+            List<Path> blobs;
+            try (Stream<Path> files = Files.list(cacheDir)) {
+                blobs = files.filter(it -> it.getFileName().toString().endsWith(BLOB_SUFFIX))
+                        .sorted(Comparator.comparing(SampleTarballCache::lastModified))
+                        .collect(Collectors.toList());
+            }
+
+            long totalSize = 0;
+            for (Path blob : blobs) {
+                totalSize += Files.size(blob);
+            }
+
+            // remove the oldest entries first, dangling references are ignored by get()
+            for (Path blob : blobs) {
+                if (totalSize <= maxSizeBytes) {
+                    break;
+                }
+                totalSize -= Files.size(blob);
+                Files.deleteIfExists(blob);
+            }
+        } catch (IOException e) {
+            log.debug("Failed to evict cached samples", e);
+        }
+    }
+
+    private void writeRef(String url, String etag) throws IOException {
+        Properties ref = new Properties();
+        ref.setProperty("url", url);
+        if (etag != null) {
+            ref.setProperty("etag", etag);
+        }
+
+        String key = key(url);
+        Path tempFile = Files.createTempFile(cacheDir, key, ".tmp");
+        try (Writer writer = Files.newBufferedWriter(tempFile, UTF_8)) {
+            ref.store(writer, null);
+        }
+        Files.move(tempFile, cacheDir.resolve(key + REF_SUFFIX), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path blobFile(String url, String etag) {
+        return cacheDir.resolve(key(url + "\n" + (etag != null ? etag : "")) + BLOB_SUFFIX);
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static String key(String value) {
+        return Hashing.sha256().hashString(value, UTF_8).toString();
+    }
+
+    static class Entry {
+
+        private final Path tarball;
+        private final String etag;
+
+        Entry(Path tarball, String etag) {
+            this.tarball = tarball;
+            this.etag = etag;
+        }
+
+        Path getTarball() {
+            return tarball;
+        }
+
+        String getEtag() {
+            return etag;
+        }
+    }
+}
@@ -15,6 +15,9 @@
  */
 package com.okta.cli.common.service;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
 class Settings {
 
     /**
@@ -24,6 +27,16 @@ class Settings {
     private static final String DEFAULT_CLI_API_URL = "https://start.okta.dev/";
     private static final String DEFAULT_REGISTRATION_BASE_URL = "https://okta-devok12.okta.com/";
     private static final String DEFAULT_REGISTRATION_ID = "reg405abrRAkn0TRf5d6";
+    private static final int DEFAULT_HTTP_MAX_CONNECTIONS = 10;
+    private static final int DEFAULT_HTTP_IDLE_TIMEOUT_SECONDS = 30;
+    private static final String DEFAULT_HTTP_TRANSPORT = "apache";
+    private static final int DEFAULT_CACHE_TTL_SECONDS = 24 * 60 * 60;
+    private static final int DEFAULT_HTTP_CACHE_MAX_SIZE_KB = 10 * 1024;
+    private static final int MAX_DEFAULT_EXTRACT_THREADS = 4;
+    private static final int DEFAULT_SETUP_THREADS = 4;
+    private static final int DEFAULT_RATE_LIMIT_MAX_WAIT_SECONDS = 60;
+    private static final int DEFAULT_SAMPLE_CACHE_MAX_SIZE_MB = 500;
+    private static final String LOOKUP_CACHE_TTL_ENV_PREFIX = "OKTA_CLI_LOOKUP_CACHE_TTL_";
 
     static String getProperty(String envVar, String systemProperty, String defaultValue) {
         // Resolve baseURL via ENV Var, System property, and fallback to the default
@@ -32,6 +45,18 @@ class Settings {
                         defaultValue)); // fallback to default value
     }
 
+    static int getIntProperty(String envVar, String systemProperty, int defaultValue) {
+        String value = getProperty(envVar, systemProperty, null);
+        if (value == null || value.isBlank()) {
+            return defaultValue;
+        }
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid value for '" + systemProperty + "', expected a number but found: " + value, e);
+        }
+    }
+
     static String getRegistrationBaseUrl() {
         return getProperty("OKTA_CLI_REGISTRATION_URL", "okta.cli.registrationUrl", DEFAULT_REGISTRATION_BASE_URL);
     }
@@ -43,4 +68,101 @@ class Settings {
     static String getCliApiUrl() {
         return getProperty("OKTA_CLI_API_URL", "okta.cli.apiUrl", DEFAULT_CLI_API_URL);
     }
+
+    /**
+     * The maximum number of pooled HTTP connections shared by the CLI's REST clients, at least 1.
+     */
+    static int getHttpMaxConnections() {
+        // also sizes the async request executor, neither the pool nor the executor accept a value less than 1
+        return Math.max(1, getIntProperty("OKTA_CLI_HTTP_MAX_CONNECTIONS", "okta.cli.http.maxConnections", DEFAULT_HTTP_MAX_CONNECTIONS));
+    }
+
+    /**
+     * The number of seconds an unused pooled HTTP connection is kept alive before it is evicted.
+     */
+    static int getHttpIdleTimeout() {
+        return getIntProperty("OKTA_CLI_HTTP_IDLE_TIMEOUT", "okta.cli.http.idleTimeout", DEFAULT_HTTP_IDLE_TIMEOUT_SECONDS);
+    }
+
+    /**
+     * The {@link HttpTransport} used for the CLI's REST calls, {@code apache} or {@code jdk}.
+     */
+    static String getHttpTransport() {
+        return getProperty("OKTA_CLI_HTTP_TRANSPORT", "okta.cli.http.transport", DEFAULT_HTTP_TRANSPORT);
+    }
+
+    /**
+     * The base directory used to cache remote resources, defaults to {@code ~/.okta/cache}.
+     */
+    static Path getCacheDir() {
+        String defaultDir = Paths.get(System.getProperty("user.home"), ".okta", "cache").toString();
+        return Paths.get(getProperty("OKTA_CLI_CACHE_DIR", "okta.cli.cacheDir", defaultDir));
+    }
+
+    /**
+     * The directory used to record the progress of OIDC application setups, defaults to {@code ~/.okta/setup-journal}.
+     */
+    static Path getSetupJournalDir() {
+        String defaultDir = Paths.get(System.getProperty("user.home"), ".okta", "setup-journal").toString();
+        return Paths.get(getProperty("OKTA_CLI_SETUP_JOURNAL_DIR", "okta.cli.setupJournalDir", defaultDir));
+    }
+
+    /**
+     * The number of seconds a cached response is used without revalidating it with the server.
+     */
+    static int getCacheTtl() {
+        return getIntProperty("OKTA_CLI_CACHE_TTL", "okta.cli.cacheTtl", DEFAULT_CACHE_TTL_SECONDS);
+    }
+
+    /**
+     * The maximum size (in kilobytes) of the HTTP response cache.
+     */
+    static int getHttpCacheMaxSize() {
+        return getIntProperty("OKTA_CLI_HTTP_CACHE_MAX_SIZE", "okta.cli.http.cacheMaxSize", DEFAULT_HTTP_CACHE_MAX_SIZE_KB);
+    }
+
+    /**
+     * The maximum size (in megabytes) of the downloaded sample tarball cache.
+     */
+    static int getSampleCacheMaxSize() {
+        return getIntProperty("OKTA_CLI_SAMPLE_CACHE_MAX_SIZE", "okta.cli.sampleCacheMaxSize", DEFAULT_SAMPLE_CACHE_MAX_SIZE_MB);
+    }
+
+    /**
+     * The number of seconds the result of an Okta API lookup is cached, e.g. {@code okta.cli.lookupCache.everyoneGroup.ttl}
+     * or {@code OKTA_CLI_LOOKUP_CACHE_TTL_EVERYONE_GROUP}.
+     */
+    static int getLookupCacheTtl(String lookupName, String envName, int defaultSeconds) {
+        return getIntProperty(LOOKUP_CACHE_TTL_ENV_PREFIX + envName, "okta.cli.lookupCache." + lookupName + ".ttl", defaultSeconds);
+    }
+
+    /**
+     * The number of threads used to write files when extracting a sample, defaults to the number of processors (max 4).
+     */
+    static int getExtractThreads() {
+        int defaultThreads = Math.min(Runtime.getRuntime().availableProcessors(), MAX_DEFAULT_EXTRACT_THREADS);
+        return getIntProperty("OKTA_CLI_EXTRACT_THREADS", "okta.cli.extractThreads", defaultThreads);
+    }
+
+    /**
+     * The number of threads used to replace placeholders in an existing project, defaults to the number of processors.
+     */
+    static int getFilterThreads() {
+        return getIntProperty("OKTA_CLI_FILTER_THREADS", "okta.cli.filterThreads", Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * The number of Okta API calls made concurrently when configuring a new application (groups, claims, trusted
+     * origins, etc).
+     */
+    static int getSetupThreads() {
+        return getIntProperty("OKTA_CLI_SETUP_THREADS", "okta.cli.setupThreads", DEFAULT_SETUP_THREADS);
+    }
+
+    /**
+     * The maximum number of seconds an Okta API request waits for a rate limit window to reset before it is sent anyway.
+     */
+    static int getRateLimitMaxWait() {
+        return getIntProperty("OKTA_CLI_RATE_LIMIT_MAX_WAIT", "okta.cli.rateLimit.maxWait", DEFAULT_RATE_LIMIT_MAX_WAIT_SECONDS);
+    }
 }
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.hash.Hashing;
+import com.okta.cli.common.model.SetupJournal;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Tracks the progress of {@link DefaultSetupService#createOidcApplication}, using a {@link SetupJournal} stored in
+ * {@code journalDir} (defaults to {@code ~/.okta/setup-journal}). There is one journal per org, application name, and
+ * config file; it is written after each step completes, and deleted when the setup is done.
+ * <p>
+ * A setup can only be resumed when the client ID was written to a config file, so setups using an in-memory property
+ * source use a {@link #disabled()} tracker, which records nothing.
+ * <p>
+ * This class is safe to use from multiple threads.
+ */
+@Slf4j
+class SetupJournalTracker {
+
+    static final String GROUP_CLAIM = "group-claim:";
+    static final String GROUP = "group:";
+    static final String TRUSTED_ORIGIN = "trusted-origin:";
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private final Path journalFile;
+    private final String orgUrl;
+    private final String appName;
+    private final String configFile;
+    private SetupJournal journal;
+
+    SetupJournalTracker(Path journalDir, String orgUrl, String appName, File configFile) {
+        this.orgUrl = orgUrl;
+        this.appName = appName;
+        this.configFile = configFile.getAbsolutePath();
+        this.journalFile = journalDir.resolve(key(orgUrl, appName, this.configFile) + ".json");
+        this.journal = load();
+    }
+
+    private SetupJournalTracker() {
+        this.journalFile = null;
+        this.orgUrl = null;
+        this.appName = null;
+        this.configFile = null;
+    }
+
+    /**
+     * Returns a tracker that records nothing, every step is run.
+     */
+    static SetupJournalTracker disabled() {
+        return new SetupJournalTracker();
+    }
+
+    /**
+     * Returns true if a previous setup of the application with this client ID did not complete.
+     */
+    synchronized boolean isResumable(String clientId) {
+        return journal != null && clientId != null && clientId.equals(journal.getClientId());
+    }
+
+    synchronized boolean isCompleted(String step) {
+        return journal != null && journal.getCompletedSteps().contains(step);
+    }
+
+    /**
+     * Starts a new journal for a newly created application, replacing any previous one.
+     */
+    synchronized void start(String clientId) {
+        if (journalFile == null) {
+            return;
+        }
+        journal = new SetupJournal()
+                .setOrgUrl(orgUrl)
+                .setAppName(appName)
+                .setConfigFile(configFile)
+                .setClientId(clientId);
+        save();
+    }
+
+    synchronized void complete(String step) {
+        if (journal != null && journal.getCompletedSteps().add(step)) {
+            save();
+        }
+    }
+
+    /**
+     * Removes the journal, all steps have completed.
+     */
+    synchronized void finish() {
+        journal = null;
+        if (journalFile == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(journalFile);
+        } catch (IOException e) {
+            log.debug("Failed to delete setup journal: {}", journalFile, e);
+        }
+    }
+
+    private SetupJournal load() {
+        try {
+            SetupJournal previous = objectMapper.readValue(journalFile.toFile(), SetupJournal.class);
+            if (previous.getVersion() == 1
+                    && previous.getCompletedSteps() != null
+                    && Objects.equals(previous.getOrgUrl(), orgUrl)
+                    && Objects.equals(previous.getAppName(), appName)
+                    && Objects.equals(previous.getConfigFile(), configFile)) {
+                return previous;
+            }
+        } catch (FileNotFoundException e) {
+            log.debug("No setup journal found: {}", journalFile);
+        } catch (IOException e) {
+            // the journal is only an optimization, an unreadable journal is ignored
+            log.debug("Failed to read setup journal: {}", journalFile, e);
+        }
+        return null;
+    }
+
+    private void save() {
+        try {
+            Files.createDirectories(journalFile.getParent());
+            Path tempFile = Files.createTempFile(journalFile.getParent(), journalFile.getFileName().toString(), ".tmp");
+            try {
+                objectMapper.writerWithDefaultPrettyPrinter().writeValue(tempFile.toFile(), journal);
+                Files.move(tempFile, journalFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(tempFile);
+            }
+        } catch (IOException e) {
+            // a failed setup will not be resumable, but the setup itself can continue
+            log.debug("Failed to write setup journal: {}", journalFile, e);
+        }
+    }
+
+    private static String key(String orgUrl, String appName, String configFile) {
+        return Hashing.sha256().hashString(orgUrl + "\n" + appName + "\n" + configFile, UTF_8).toString();
+    }
+}
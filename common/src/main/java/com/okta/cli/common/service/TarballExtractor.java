@@ -15,88 +15,216 @@
  */
 package com.okta.cli.common.service;
 
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.compress.archivers.ArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
 import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
 import org.apache.commons.compress.utils.IOUtils;
-import org.apache.http.HttpResponse;
-import org.apache.http.client.methods.HttpGet;
-import org.apache.http.impl.client.CloseableHttpClient;
-import org.apache.http.impl.client.HttpClients;
 
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.CharacterCodingException;
 import java.nio.file.FileSystems;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.attribute.FileTime;
 import java.nio.file.attribute.PosixFilePermission;
+import java.util.Collections;
 import java.util.EnumSet;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * Extracts files from a tarball stripping the top level directory.
+ * <p>
+ * Tarballs are downloaded into a local {@link SampleTarballCache}, and revalidated with the server using their ETag
+ * on later runs. In offline mode, only previously downloaded tarballs are used.
+ * <p>
+ * Extraction is split into two stages: the calling thread decompresses and reads the tarball, while a
+ * small pool of writer threads creates the files and sets their attributes. Entries are handed over as in memory
+ * buffers through a bounded queue, when the queue is full the reader writes the entry itself, which keeps memory
+ * usage bounded. Entries larger than {@link #MAX_BUFFERED_ENTRY_SIZE} are always written by the reader.
+ * <p>
+ * When a context is given, placeholders in text files are replaced while the files are written, so the extracted
+ * files do not need to be read back and rewritten.
  */
+@Slf4j
 public class TarballExtractor implements Extractor {
 
+    private static final int MAX_BUFFERED_ENTRY_SIZE = 256 * 1024;
+    private static final int QUEUE_CAPACITY = 64;
+
+    private final int writerThreads;
+
+    private final SampleTarballCache cache;
+
+    private final boolean offline;
+
+    private final Interpolator interpolator = new TemplateInterpolator();
+
+    // tarballs already fetched by this extractor, so extracting the same sample in phases downloads it only once
+    private final Map<String, SampleTarballCache.Entry> fetched = new ConcurrentHashMap<>();
+
+    public TarballExtractor() {
+        this(false);
+    }
+
+    public TarballExtractor(boolean offline) {
+        this(Settings.getExtractThreads(), SampleTarballCache.create(), offline);
+    }
+
+    TarballExtractor(int writerThreads, SampleTarballCache cache, boolean offline) {
+        this.writerThreads = Math.max(1, writerThreads);
+        this.cache = cache;
+        this.offline = offline;
+    }
+
     @Override
     public void extract(String uri, File targetDirectory) throws IOException {
-        try (CloseableHttpClient httpClient = HttpClients.createDefault();
-             InputStream httpStream = downloadStream(httpClient, uri);
-             TarArchiveInputStream zipStream = new TarArchiveInputStream(new GzipCompressorInputStream(httpStream))) {
-            TarArchiveEntry entry;
+        extract(uri, targetDirectory, path -> true, path -> true, Collections.emptyMap(), new BinaryFileDetector());
+    }
 
-            Set<String> supportedViews = FileSystems.getDefault().supportedFileAttributeViews();
+    @Override
+    public void extract(String uri, File targetDirectory, Predicate<String> include, Predicate<String> filter,
+                        Map<String, String> context, BinaryFileDetector binaryFiles) throws IOException {
+        SampleTarballCache.Entry tarball = fetched.get(uri);
+        if (tarball == null || !Files.isRegularFile(tarball.getTarball())) {
+            tarball = fetch(uri);
+            fetched.put(uri, tarball);
+        }
+
+        try (InputStream in = Files.newInputStream(tarball.getTarball())) {
+            extract(in, targetDirectory, include, filter, context, binaryFiles);
+        } finally {
+            // evict after extracting, so the tarball is not removed while it is being read
+            cache.evictIfNeeded();
+        }
+    }
+
+    private SampleTarballCache.Entry fetch(String url) throws IOException {
+        Optional<SampleTarballCache.Entry> cached = cache.get(url);
+        if (offline) {
+            return cached.orElseThrow(() -> new IOException("Sample has not been downloaded before and is not available offline: " + url));
+        }
+
+        // the tarball is already compressed, compressing the response again only changes (or drops) the ETag
+        HttpTransport.Request request = HttpTransport.Request.get(url)
+                .header("Accept-Encoding", "identity");
+        cached.map(SampleTarballCache.Entry::getEtag)
+                .ifPresent(etag -> request.header("If-None-Match", etag));
+
+        HttpTransport.Response response;
+        try {
+            response = HttpTransport.get().execute(request);
+        } catch (IOException e) {
+            if (cached.isPresent()) {
+                log.warn("Failed to download {}, using the previously downloaded copy", url);
+                log.debug("Download failure", e);
+                return cached.get();
+            }
+            throw e;
+        }
+
+        // closing the response releases the underlying connection
+        try (response) {
+            if (response.getStatus() == 304 && cached.isPresent()) {
+                log.debug("Cached sample for {} is still valid", url);
+                cache.touch(cached.get());
+                return cached.get();
+            }
+
+            // check for error
+            if (response.getStatus() == 200) {
+                return cache.put(url, response.getETag().orElse(null), response.getBody());
+            }
+            throw new IOException("Failed to download: " + response.getStatus() + " - " + url);
+        }
+    }
+
+    private void extract(InputStream tarball, File targetDirectory, Predicate<String> include, Predicate<String> filter,
+                         Map<String, String> context, BinaryFileDetector binaryFiles) throws IOException {
+
+        Set<String> supportedViews = FileSystems.getDefault().supportedFileAttributeViews();
+        EntryWriter entryWriter = new EntryWriter(supportedViews.contains("posix"), interpolator, filter, context, binaryFiles);
+        ExecutorService writers = writerPool();
+
+        try (TarArchiveInputStream zipStream = new TarArchiveInputStream(new GzipCompressorInputStream(tarball))) {
+            TarArchiveEntry entry;
 
             while ((entry = zipStream.getNextTarEntry()) != null) {
+                // fail fast if a writer has failed
+                entryWriter.checkFailure();
+
                 if (!zipStream.canReadEntryData(entry)) {
-                    // log something?
+                    log.debug("Skipping unsupported tar entry: {}", entry.getName());
+                    continue;
+                }
+
+                String name = relativeName(entry);
+                if (!include.test(name)) {
                     continue;
                 }
 
-                File destFile = fileName(targetDirectory, entry);
+                Path destFile = FileUtils.ensureRelative(targetDirectory, name).toPath();
                 if (entry.isDirectory()) {
-                    if (!destFile.isDirectory() && !destFile.mkdirs()) {
-                        throw new IOException("failed to create directory " + destFile);
-                    }
+                    entryWriter.createDirectory(destFile);
+                } else if (entry.getSize() <= MAX_BUFFERED_ENTRY_SIZE) {
+                    byte[] content = IOUtils.toByteArray(zipStream);
+                    TarArchiveEntry bufferedEntry = entry;
+                    writers.execute(() -> entryWriter.write(destFile, name, bufferedEntry, content));
                 } else {
-                    File parent = destFile.getParentFile();
-                    if (!parent.isDirectory() && !parent.mkdirs()) {
-                        throw new IOException("failed to create directory " + parent);
-                    }
-
-                    int mode = entry.getMode();
-                    try (OutputStream o = Files.newOutputStream(destFile.toPath())) {
-                        IOUtils.copy(zipStream, o);
-                    }
-
-                    if (supportedViews.contains("posix")) {
-                        Files.setPosixFilePermissions(destFile.toPath(), permissionsFromMode(mode));
-                    }
-                    Files.setLastModifiedTime(destFile.toPath(), FileTime.from(entry.getLastModifiedDate().toInstant()));
+                    entryWriter.write(destFile, name, entry, zipStream);
                 }
             }
+        } catch (IOException | RuntimeException e) {
+            // drop any queued entries, the extraction has failed
+            writers.shutdownNow();
+            throw e;
+        } finally {
+            awaitTermination(writers);
         }
+        entryWriter.checkFailure();
     }
 
-    private InputStream downloadStream(CloseableHttpClient httpClient, String url) throws IOException {
-        HttpGet httpGet = new HttpGet(url);
-        HttpResponse response = httpClient.execute(httpGet);
+    private ExecutorService writerPool() {
+        // CallerRunsPolicy: when the queue is full, the reader thread writes the entry, slowing down the reader
+        return new ThreadPoolExecutor(writerThreads, writerThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY), new WriterThreadFactory(), new ThreadPoolExecutor.CallerRunsPolicy());
+    }
 
-        // check for error
-        if (response.getStatusLine().getStatusCode() == 200) {
-            return response.getEntity().getContent();
+    private static void awaitTermination(ExecutorService writers) throws InterruptedIOException {
+        writers.shutdown();
+        try {
+            while (!writers.awaitTermination(1, TimeUnit.SECONDS)) {
+                log.debug("Waiting for extracted files to be written");
+            }
+        } catch (InterruptedException e) {
+            writers.shutdownNow();
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while extracting files");
         }
-
-        throw new IOException("Failed to download: " + response.getStatusLine() + " - " + url);
     }
 
-    private File fileName(File targetDir, ArchiveEntry archiveEntry) throws IOException {
-
-        String name = archiveEntry.getName().replaceFirst("[^/]+/", "/");
-        return FileUtils.ensureRelative(targetDir, name);
+    private String relativeName(ArchiveEntry archiveEntry) {
+        // strip the top level directory
+        return archiveEntry.getName().replaceFirst("[^/]+/", "");
     }
 
     public static Set<PosixFilePermission> permissionsFromMode(int mode) {
@@ -119,4 +247,109 @@ public class TarballExtractor implements Extractor {
             permissions.add(PosixFilePermission.valueOf(prefix + "_READ"));
         }
     }
+
+    /**
+     * Writes entries to disk, this is called concurrently from the writer threads and the reader thread.
+     */
+    static class EntryWriter {
+
+        private final boolean posix;
+        private final Interpolator interpolator;
+        private final Predicate<String> filter;
+        private final Map<String, String> context;
+        private final BinaryFileDetector binaryFiles;
+        private final Set<Path> createdDirectories = ConcurrentHashMap.newKeySet();
+        private final AtomicReference<Exception> failure = new AtomicReference<>();
+
+        EntryWriter(boolean posix, Interpolator interpolator, Predicate<String> filter, Map<String, String> context,
+                    BinaryFileDetector binaryFiles) {
+            this.posix = posix;
+            this.interpolator = interpolator;
+            this.filter = filter;
+            this.context = context;
+            this.binaryFiles = binaryFiles;
+        }
+
+        void createDirectory(Path directory) throws IOException {
+            // avoid a syscall for every file in an already created directory, the directory is only recorded once it
+            // exists, createDirectories() is safe to call concurrently for the same directory
+            if (!createdDirectories.contains(directory)) {
+                try {
+                    Files.createDirectories(directory);
+                } catch (IOException e) {
+                    throw new IOException("failed to create directory " + directory, e);
+                }
+                createdDirectories.add(directory);
+            }
+        }
+
+        void write(Path destFile, String name, TarArchiveEntry entry, byte[] content) {
+            if (failure.get() != null) {
+                return;
+            }
+            try {
+                createDirectory(destFile.getParent());
+                Files.write(destFile, interpolate(destFile, name, content));
+                setAttributes(destFile, entry);
+            } catch (IOException | RuntimeException e) {
+                failure.compareAndSet(null, e);
+            }
+        }
+
+        void write(Path destFile, String name, TarArchiveEntry entry, InputStream content) throws IOException {
+            createDirectory(destFile.getParent());
+            try (OutputStream o = Files.newOutputStream(destFile)) {
+                IOUtils.copy(content, o);
+            }
+            // large files are filtered after they are written, instead of holding them in memory
+            if (!context.isEmpty() && filter.test(name) && !binaryFiles.isBinary(destFile)) {
+                interpolator.interpolate(destFile, context);
+            }
+            setAttributes(destFile, entry);
+        }
+
+        void checkFailure() throws IOException {
+            Exception e = failure.get();
+            if (e != null) {
+                throw new IOException("Failed to extract file: " + e.getMessage(), e);
+            }
+        }
+
+        private byte[] interpolate(Path destFile, String name, byte[] content) {
+            if (context.isEmpty() || !filter.test(name) || binaryFiles.isBinary(name, content)) {
+                return content;
+            }
+
+            String text;
+            try {
+                // a strict decoder, the detector only checks the start of the content
+                text = UTF_8.newDecoder().decode(ByteBuffer.wrap(content)).toString();
+            } catch (CharacterCodingException e) {
+                log.debug("skipping binary file: {}", destFile.getFileName());
+                return content;
+            }
+
+            String result = interpolator.interpolate(text, context);
+            return result.equals(text) ? content : result.getBytes(UTF_8);
+        }
+
+        private void setAttributes(Path destFile, TarArchiveEntry entry) throws IOException {
+            if (posix) {
+                Files.setPosixFilePermissions(destFile, permissionsFromMode(entry.getMode()));
+            }
+            Files.setLastModifiedTime(destFile, FileTime.from(entry.getLastModifiedDate().toInstant()));
+        }
+    }
+
+    private static class WriterThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "okta-cli-extract-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
 }
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Runs a small graph of dependent tasks on a bounded thread pool, each task starts as soon as the tasks it depends on
+ * have completed. Tasks can only depend on tasks that were added before them, so the graph cannot contain cycles.
+ * <p>
+ * The first task to fail stops the graph: tasks that have not started yet are skipped, and {@link #run()} rethrows the
+ * original exception once the running tasks have finished. Tasks may report progress (e.g. with a
+ * {@link com.okta.cli.common.progressbar.ProgressBar}) from any of the pool's threads.
+ */
+@Slf4j
+class TaskGraph {
+
+    private final int parallelism;
+    private final List<Task<?>> tasks = new ArrayList<>();
+
+    TaskGraph(int parallelism) {
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    Task<Void> add(String name, Runnable action, Task<?>... dependencies) {
+        return supply(name, () -> {
+            action.run();
+            return null;
+        }, dependencies);
+    }
+
+    <T> Task<T> supply(String name, Supplier<T> action, Task<?>... dependencies) {
+        Task<T> task = new Task<>(name, action, List.of(dependencies));
+        tasks.add(task);
+        return task;
+    }
+
+    /**
+     * Runs all tasks and waits for them to complete.
+     * @throws RuntimeException the exception thrown by the first task that failed
+     */
+    void run() {
+        if (tasks.isEmpty()) {
+            return;
+        }
+
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        ExecutorService executor = Executors.newFixedThreadPool(Math.min(parallelism, tasks.size()), new TaskThreadFactory());
+        try {
+            // dependencies are always added first, so their futures exist when a task is scheduled
+            CompletableFuture<?>[] futures = tasks.stream()
+                    .map(task -> task.schedule(executor, failure))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).join();
+        } catch (CompletionException | CancellationException e) {
+            Throwable cause = failure.get() != null ? failure.get() : e;
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    static final class Task<T> {
+
+        private final String name;
+        private final Supplier<T> action;
+        private final List<Task<?>> dependencies;
+        private CompletableFuture<T> future;
+
+        private Task(String name, Supplier<T> action, List<Task<?>> dependencies) {
+            this.name = name;
+            this.action = action;
+            this.dependencies = dependencies;
+        }
+
+        /**
+         * Returns the result of this task, it can only be called by tasks that depend on it.
+         */
+        T get() {
+            return future.join();
+        }
+
+        private CompletableFuture<T> schedule(ExecutorService executor, AtomicReference<Throwable> failure) {
+            CompletableFuture<?>[] dependencyFutures = dependencies.stream()
+                    .map(dependency -> dependency.future)
+                    .toArray(CompletableFuture[]::new);
+
+            future = CompletableFuture.allOf(dependencyFutures).thenApplyAsync(ignored -> {
+                if (failure.get() != null) {
+                    throw new CancellationException("Skipped '" + name + "', a previous task failed");
+                }
+                log.debug("Running task: {}", name);
+                try {
+                    return action.get();
+                } catch (RuntimeException | Error e) {
+                    failure.compareAndSet(null, e);
+                    throw e;
+                }
+            }, executor);
+            return future;
+        }
+    }
+
+    private static class TaskThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "okta-cli-task-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * An {@link Interpolator} that compiles the context into a character trie once, instead of building a new plexus
+ * {@code StringSearchInterpolator} for every call. The compiled context is reused as long as the same values are
+ * passed in, e.g. when filtering every file in a sample.
+ * <p>
+ * The syntax and behavior match {@link DefaultInterpolator}: {@code ${key}} expressions are replaced with the value of
+ * {@code key} (values are interpolated too), and unknown expressions are left unchanged. Text without a {@code ${}
+ * sequence is returned as is, without allocating.
+ */
+public class TemplateInterpolator implements Interpolator {
+
+    private static final String START_EXPR = "${";
+    private static final char END_EXPR = '}';
+
+    private volatile Template template;
+
+    @Override
+    public String interpolate(String text, Map<String, String> context) {
+        int start = text.indexOf(START_EXPR);
+        if (start < 0) {
+            return text;
+        }
+        return template(context).render(text, start);
+    }
+
+    private Template template(Map<String, String> context) {
+        Template current = template;
+        if (current == null || !current.context.equals(context)) {
+            current = new Template(context);
+            template = current;
+        }
+        return current;
+    }
+
+    private static final class Template {
+
+        private final Map<String, String> context;
+        private final Node root = new Node();
+
+        Template(Map<String, String> context) {
+            this.context = new HashMap<>(context);
+            this.context.forEach((key, value) -> {
+                if (value != null) {
+                    root.add(key);
+                }
+            });
+            this.context.forEach((key, value) -> {
+                if (value != null) {
+                    Node node = root.find(key, 0, key.length());
+                    try {
+                        node.value = resolve(key, new HashSet<>());
+                    } catch (IllegalStateException e) {
+                        // only fail if the key is actually used
+                        node.error = e;
+                    }
+                }
+            });
+        }
+
+        /**
+         * Resolves the expressions in the value of a key, the same as plexus, a key that refers back to itself is
+         * an error.
+         */
+        private String resolve(String key, Set<String> resolving) {
+            if (!resolving.add(key)) {
+                throw new IllegalStateException("Failed to filter content, expression cycle detected for: " + key);
+            }
+
+            String value = context.get(key);
+            StringBuilder result = new StringBuilder(value.length());
+            int copied = 0;
+            int start = value.indexOf(START_EXPR);
+            while (start >= 0) {
+                int end = value.indexOf(END_EXPR, start + 1);
+                if (end < 0) {
+                    break;
+                }
+                String nestedKey = stripLeadingDot(value.substring(start + START_EXPR.length(), end));
+                if (context.get(nestedKey) != null) {
+                    result.append(value, copied, start).append(resolve(nestedKey, resolving));
+                    copied = end + 1;
+                }
+                start = value.indexOf(START_EXPR, end + 1);
+            }
+
+            resolving.remove(key);
+            return result.append(value, copied, value.length()).toString();
+        }
+
+        String render(String text, int start) {
+            StringBuilder result = null;
+            int copied = 0;
+            int length = text.length();
+
+            while (start >= 0) {
+                // like plexus, an expression ends at the first '}', a leading '.' is ignored
+                int end = text.indexOf(END_EXPR, start + 1);
+                if (end < 0) {
+                    break;
+                }
+                int keyStart = start + START_EXPR.length();
+                if (keyStart < end && text.charAt(keyStart) == '.') {
+                    keyStart++;
+                }
+
+                Node node = keyStart <= end ? root.find(text, keyStart, end) : null;
+                if (node != null && node.error != null) {
+                    throw node.error;
+                }
+                if (node != null && node.value != null) {
+                    if (result == null) {
+                        result = new StringBuilder(length + 64);
+                    }
+                    result.append(text, copied, start).append(node.value);
+                    copied = end + 1;
+                }
+                // unknown expressions are left as is
+                start = end + 1 < length ? text.indexOf(START_EXPR, end + 1) : -1;
+            }
+
+            if (result == null) {
+                return text;
+            }
+            return result.append(text, copied, length).toString();
+        }
+
+        private static String stripLeadingDot(String key) {
+            return key.startsWith(".") ? key.substring(1) : key;
+        }
+    }
+
+    /**
+     * A node in the key trie, the few children of each node are kept in small parallel arrays.
+     */
+    private static final class Node {
+
+        private char[] chars = new char[0];
+        private Node[] children = new Node[0];
+        private String value;
+        private IllegalStateException error;
+
+        void add(String key) {
+            Node node = this;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.childOrCreate(key.charAt(i));
+            }
+        }
+
+        Node find(CharSequence text, int start, int end) {
+            Node node = this;
+            for (int i = start; i < end && node != null; i++) {
+                node = node.child(text.charAt(i));
+            }
+            return node;
+        }
+
+        private Node child(char c) {
+            for (int i = 0; i < chars.length; i++) {
+                if (chars[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        private Node childOrCreate(char c) {
+            Node child = child(c);
+            if (child == null) {
+                child = new Node();
+                int size = chars.length;
+                chars = Arrays.copyOf(chars, size + 1);
+                children = Arrays.copyOf(children, size + 1);
+                chars[size] = c;
+                children[size] = child;
+            }
+            return child;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service;
+
+import com.okta.sdk.client.Client;
+import lombok.Data;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface TrustedOriginReconciler {
+
+    /**
+     * Makes sure each of the {@code origins} exists as a trusted origin with both the CORS and redirect scopes, missing
+     * origins are created and existing origins without both scopes are updated.
+     */
+    Result reconcile(Client client, Collection<String> origins);
+
+    @Data
+    class Result {
+
+        private final List<String> created;
+        private final List<String> updated;
+        private final List<String> unchanged;
+    }
+}
@@ -18,6 +18,10 @@ package com.okta.cli.common.config
 import org.hamcrest.MatcherAssert
 import org.testng.annotations.Test
 
+import java.nio.file.Files
+import java.nio.file.attribute.PosixFileAttributeView
+import java.nio.file.attribute.PosixFilePermissions
+
 import static org.hamcrest.MatcherAssert.assertThat
 import static org.hamcrest.Matchers.*
 
@@ -84,6 +88,47 @@ class EnvFilePropertiesSourceTest {
         MatcherAssert.assertThat result, hasEntry("SPRING_FOO_BAR", "expected-value")
     }
 
+    @Test
+    void parsedFileIsCachedUntilChanged() {
+
+        File configFile = writeFile(["OKTA_OAUTH2_ISSUER": "https://issuer.example.com"], "parsedFileIsCachedUntilChanged")
+        EnvFilePropertiesSource source = new EnvFilePropertiesSource(configFile)
+
+        Map<String, String> properties = source.getProperties()
+        assertThat source.getProperty("okta.oauth2.issuer"), is("https://issuer.example.com")
+        assertThat source.getProperties().is(properties), is(true)
+
+        // written by this source
+        source.addProperties(["okta.oauth2.clientId": "a-client-id"])
+        assertThat source.getProperty("okta.oauth2.clientId"), is("a-client-id")
+
+        // written by something else
+        configFile.text = 'export OKTA_OAUTH2_ISSUER="https://other-issuer.example.com"\n'
+        assertThat source.getProperty("okta.oauth2.issuer"), is("https://other-issuer.example.com")
+        assertThat source.getProperty("okta.oauth2.clientId"), nullValue()
+    }
+
+    @Test
+    void fileIsReplacedAtomically() {
+        File configFile = writeFile(["OKTA_OAUTH2_ISSUER": "https://issuer.example.com"], "fileIsReplacedAtomically")
+        boolean posix = Files.getFileAttributeView(configFile.toPath(), PosixFileAttributeView) != null
+        if (posix) {
+            Files.setPosixFilePermissions(configFile.toPath(), PosixFilePermissions.fromString("rw-------"))
+        }
+
+        new EnvFilePropertiesSource(configFile).addProperties(["okta.oauth2.clientId": "a-client-id", "okta.oauth2.clientSecret": "a-client-secret"])
+
+        assertThat readFromFile(configFile), is([
+                "OKTA_OAUTH2_ISSUER": "https://issuer.example.com",
+                "OKTA_OAUTH2_CLIENT_ID": "a-client-id",
+                "OKTA_OAUTH2_CLIENT_SECRET": "a-client-secret"])
+        if (posix) {
+            assertThat PosixFilePermissions.toString(Files.getPosixFilePermissions(configFile.toPath())), is("rw-------")
+        }
+        // no temp files are left behind
+        assertThat configFile.parentFile.listFiles().findAll { it.name.startsWith("." + configFile.name) }, is([])
+    }
+
     static File writeFile(Map data, String testName) {
         File tempFile = File.createTempFile(testName, "test.env")
         tempFile.withWriter {
@@ -93,4 +93,68 @@ class YamlPropertiesSourceTest {
         assertThat result, is("expected-value")
 
     }
+
+    @Test
+    void parsedFileIsCachedUntilChanged() {
+
+        File configFile = TestUtil.writeYamlToTempFile([okta: [foo: "bar"]], "parsedFileIsCachedUntilChanged")
+        YamlPropertiesSource source = new YamlPropertiesSource(configFile)
+
+        Map<String, String> properties = source.getProperties()
+        assertThat source.getProperty("okta.foo"), is("bar")
+        assertThat source.getProperties().is(properties), is(true)
+
+        // written by this source
+        source.addProperties(["okta.other": "value"])
+        assertThat source.getProperties(), is(["okta.foo": "bar", "okta.other": "value"])
+
+        // written by something else
+        configFile.text = "okta:\n  foo: a-longer-value\n"
+        assertThat source.getProperty("okta.foo"), is("a-longer-value")
+        assertThat source.getProperty("okta.other"), nullValue()
+    }
+
+    @Test
+    void commentsAndFormattingAreKept() {
+
+        File configFile = File.createTempFile("commentsAndFormattingAreKept", ".yaml")
+        configFile.text = """\
+# server config
+server:
+    port: 8080 # the port
+
+okta:
+    oauth2:
+        client-id: old-id # replaced
+# end of file
+"""
+
+        new YamlPropertiesSource(configFile).addProperties(["okta.oauth2.client-id": "new-id",
+                                                            "okta.oauth2.issuer"   : "https://issuer.example.com/oauth2/default",
+                                                            "spring.application.name": "demo"])
+        assertThat configFile.text, is("""\
+# server config
+server:
+    port: 8080 # the port
+
+okta:
+    oauth2:
+        client-id: new-id # replaced
+        issuer: https://issuer.example.com/oauth2/default
+spring:
+    application:
+        name: demo
+# end of file
+""")
+    }
+
+    @Test
+    void flowStyleIsRewritten() {
+
+        File configFile = File.createTempFile("flowStyleIsRewritten", ".yaml")
+        configFile.text = "okta: {oauth2: {client-id: old-id}}\n"
+
+        new YamlPropertiesSource(configFile).addProperties(["okta.oauth2.client-id": "new-id"])
+        assertThat TestUtil.readYamlFromFile(configFile), is([okta: [oauth2: ["client-id": "new-id"]]])
+    }
 }
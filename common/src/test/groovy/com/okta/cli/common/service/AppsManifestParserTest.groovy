@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service
+
+import com.okta.cli.common.model.AppsManifest
+import org.testng.annotations.Test
+
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.containsString
+import static org.hamcrest.Matchers.equalTo
+
+class AppsManifestParserTest {
+
+    @Test
+    void parseManifest() {
+
+        File file = File.createTempFile("parseManifest", "-apps.yaml")
+        file << "authorizationServerId: default\n"
+        file << "apps:\n"
+        file << "  - name: tenant-a-web\n"
+        file << "    template: spring-boot\n"
+        file << "    redirectUris: [http://localhost:8080/login/oauth2/code/okta]\n"
+        file << "    unknownProperty: ignored\n"
+        file << "  - name: tenant-a-api\n"
+        file << "    template: service\n"
+        file << "    configFile: api/.okta.env\n"
+
+        AppsManifest manifest = new AppsManifestParser().parse(file)
+        assertThat manifest.authorizationServerId, equalTo("default")
+        assertThat manifest.apps*.name, equalTo(["tenant-a-web", "tenant-a-api"])
+        assertThat manifest.apps[0].redirectUris, equalTo(["http://localhost:8080/login/oauth2/code/okta"])
+        assertThat manifest.apps[1].configFile, equalTo("api/.okta.env")
+    }
+
+    @Test
+    void duplicateAppNames() {
+
+        File file = File.createTempFile("duplicateAppNames", "-apps.yaml")
+        file << "apps:\n"
+        file << "  - name: my-app\n"
+        file << "    template: web\n"
+        file << "  - name: my-app\n"
+        file << "    template: spa\n"
+
+        assertInvalid(file, "duplicate app name: my-app")
+    }
+
+    @Test
+    void missingTemplate() {
+
+        File file = File.createTempFile("missingTemplate", "-apps.yaml")
+        file << "apps:\n"
+        file << "  - name: my-app\n"
+
+        assertInvalid(file, "each app must have a 'name' and 'template'")
+    }
+
+    @Test
+    void emptyManifest() {
+
+        File file = File.createTempFile("emptyManifest", "-apps.yaml")
+
+        assertInvalid(file, "must contain an 'apps' list")
+    }
+
+    private static void assertInvalid(File file, String message) {
+        try {
+            new AppsManifestParser().parse(file)
+            assert false : "Expected IllegalArgumentException"
+        } catch (IllegalArgumentException e) {
+            assertThat e.message, containsString(message)
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service
+
+import com.google.common.jimfs.Configuration
+import com.google.common.jimfs.Jimfs
+import org.testng.annotations.Test
+
+import java.nio.file.FileSystem
+import java.nio.file.Files
+import java.nio.file.Path
+
+import static java.nio.charset.StandardCharsets.UTF_8
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.is
+
+class BinaryFileDetectorTest {
+
+    private final FileSystem fileSystem = Jimfs.newFileSystem(Configuration.unix())
+
+    @Test
+    void textFile() {
+        Path root = projectDir()
+        Path file = write(root.resolve("app.js"), 'const issuer = "${CLI_OKTA_ISSUER}" // ✓'.getBytes(UTF_8))
+
+        BinaryFileDetector detector = new BinaryFileDetector(root)
+        assertThat detector.isBinary(file), is(false)
+        assertThat detector.skippedFiles, is(0L)
+    }
+
+    @Test
+    void nulByte() {
+        Path root = projectDir()
+        Path file = write(root.resolve("data"), [0x41, 0x00, 0x42] as byte[])
+
+        BinaryFileDetector detector = new BinaryFileDetector(root)
+        assertThat detector.isBinary(file), is(true)
+        assertThat detector.skippedFiles, is(1L)
+        assertThat detector.skippedBytes, is(3L)
+    }
+
+    @Test
+    void invalidUtf8() {
+        assertThat new BinaryFileDetector().isBinary("data", [0x41, 0xff, 0xfe] as byte[]), is(true)
+    }
+
+    @Test
+    void multiByteCharacterCutOffByPrefix() {
+        // a 3 byte character that starts at the end of the sniffed prefix
+        byte[] content = ("x" * (BinaryFileDetector.SNIFF_SIZE - 1) + "✓").getBytes(UTF_8)
+        assertThat new BinaryFileDetector().isBinary("text", content), is(false)
+    }
+
+    @Test
+    void knownExtension() {
+        assertThat new BinaryFileDetector().isBinary("src/main/resources/logo.PNG", "not really a png".bytes), is(true)
+    }
+
+    @Test
+    void gitAttributes() {
+        Path root = projectDir()
+        write(root.resolve(".gitattributes"), '''
+            # comment
+            *.dat binary
+            /gradle/wrapper/gradle-wrapper.properties -text
+            *.sh text eol=lf
+            '''.stripIndent().getBytes(UTF_8))
+
+        BinaryFileDetector detector = new BinaryFileDetector(root)
+        assertThat detector.isBinary("data/values.dat", "text".bytes), is(true)
+        assertThat detector.isBinary("values.dat", "text".bytes), is(true)
+        assertThat detector.isBinary("gradle/wrapper/gradle-wrapper.properties", "text".bytes), is(true)
+        assertThat detector.isBinary("other/gradle/wrapper/gradle-wrapper.properties", "text".bytes), is(false)
+        assertThat detector.isBinary("run.sh", "text".bytes), is(false)
+        assertThat detector.skippedFiles, is(3L)
+    }
+
+    @Test
+    void gitAttributesWithGroups() {
+        Path root = projectDir()
+        write(root.resolve(".gitattributes"), '''
+            *.{png,jpg} binary
+            *.[ch binary
+            *.dat binary
+            '''.stripIndent().getBytes(UTF_8))
+
+        // the invalid pattern is ignored, the other lines still apply
+        BinaryFileDetector detector = new BinaryFileDetector(root)
+        assertThat detector.isBinary("image.png", "text".bytes), is(true)
+        assertThat detector.isBinary("images/photo.jpg", "text".bytes), is(true)
+        assertThat detector.isBinary("values.dat", "text".bytes), is(true)
+        assertThat detector.isBinary("image.gif.txt", "text".bytes), is(false)
+    }
+
+    private Path projectDir() {
+        Path dir = fileSystem.getPath("/project-" + UUID.randomUUID())
+        Files.createDirectories(dir)
+        return dir
+    }
+
+    private static Path write(Path path, byte[] content) {
+        Files.write(path, content)
+        return path
+    }
+}
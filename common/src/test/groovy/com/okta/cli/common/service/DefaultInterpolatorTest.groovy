@@ -22,6 +22,7 @@ import org.testng.annotations.Test
 import java.nio.file.FileSystem
 import java.nio.file.Files
 import java.nio.file.Path
+import java.nio.file.attribute.FileTime
 
 import static java.nio.charset.StandardCharsets.UTF_8
 import static java.nio.file.Files.write
@@ -53,6 +54,43 @@ class DefaultInterpolatorTest {
         interpolator.interpolate(path, ["foo": "bar"])
     }
 
+    @Test
+    void largeFileWithPlaceholderAcrossChunks() {
+        Path path = path("/large")
+        // place the expression so it spans the 64K chunk boundary
+        String prefix = "x" * (64 * 1024 - 3)
+        String suffix = "y" * ChunkedInterpolation.THRESHOLD
+        write(path, (prefix + '${foo}' + suffix).getBytes(UTF_8))
+
+        new DefaultInterpolator().interpolate(path, ["foo": "bar"])
+
+        assertThat(Files.readString(path, UTF_8), equalTo(prefix + "bar" + suffix))
+    }
+
+    @Test
+    void largeFileWithoutChangesIsNotWritten() {
+        Path path = path("/large-unchanged")
+        write(path, ('${unknown}' + "x" * ChunkedInterpolation.THRESHOLD).getBytes(UTF_8))
+        Files.setLastModifiedTime(path, FileTime.fromMillis(0))
+
+        new DefaultInterpolator().interpolate(path, ["foo": "bar"])
+
+        assertThat(Files.getLastModifiedTime(path), equalTo(FileTime.fromMillis(0)))
+    }
+
+    @Test
+    void largeBinaryFileIsSkipped() {
+        Path path = path("/large-binary")
+        byte[] content = new byte[ChunkedInterpolation.THRESHOLD + 1]
+        content[0] = (byte) 0xff
+        write(path, content)
+
+        // does not throw an exception
+        new DefaultInterpolator().interpolate(path, ["foo": "bar"])
+
+        assertThat(Files.readAllBytes(path), equalTo(content))
+    }
+
     Path path(String filename) {
         return fileSystem.getPath(filename)
     }
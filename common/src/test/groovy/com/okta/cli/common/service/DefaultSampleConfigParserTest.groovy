@@ -18,6 +18,7 @@ package com.okta.cli.common.service
 import com.okta.cli.common.model.OktaSampleConfig
 import org.testng.annotations.Test
 
+import static org.hamcrest.Matchers.containsString
 import static org.hamcrest.Matchers.equalTo
 import static org.hamcrest.MatcherAssert.assertThat
 
@@ -52,4 +53,39 @@ class DefaultSampleConfigParserTest {
         assertThat config.getOAuthClient().getApplicationType(), equalTo("browser")
 
     }
+
+    @Test
+    void includeExcludeTest() {
+
+        File file = File.createTempFile("includeExcludeTest", "-sample.yaml")
+        file << "oauthClient:\n"
+        file << "  redirectUris:\n"
+        file << '    - http://example.com/foo\n'
+        file << "include:\n"
+        file << "  - src/main/resources/*.properties\n"
+        file << "exclude:\n"
+        file << "  - target/\n"
+
+        OktaSampleConfig config = new DefaultSampleConfigParser().parseConfig(file)
+        assertThat config.include, equalTo(["src/main/resources/*.properties"])
+        assertThat config.exclude, equalTo(["target/"])
+    }
+
+    @Test
+    void invalidGlobTest() {
+
+        File file = File.createTempFile("invalidGlobTest", "-sample.yaml")
+        file << "oauthClient:\n"
+        file << "  redirectUris:\n"
+        file << '    - http://example.com/foo\n'
+        file << "exclude:\n"
+        file << "  - 'target/{'\n"
+
+        try {
+            new DefaultSampleConfigParser().parseConfig(file)
+            assert false : "Expected IllegalArgumentException"
+        } catch (IllegalArgumentException e) {
+            assertThat e.message, containsString("invalid 'include' or 'exclude' glob")
+        }
+    }
 }
@@ -16,8 +16,9 @@
 package com.okta.cli.common.service
 
 import com.okta.cli.common.TestUtil
-import com.okta.sdk.impl.client.DefaultClientBuilder
+import com.okta.cli.common.RestoreSystemProperties
 import com.okta.sdk.impl.config.ClientConfiguration
+import org.testng.annotations.Listeners
 import org.testng.annotations.Test
 
 import java.nio.file.FileSystems
@@ -27,24 +28,40 @@ import java.nio.file.attribute.PosixFilePermission
 import static org.hamcrest.MatcherAssert.assertThat
 import static org.hamcrest.Matchers.is
 import static org.hamcrest.io.FileMatchers.anExistingFile
-import static org.mockito.Mockito.mock
 
+@Listeners([RestoreSystemProperties])
 class DefaultSdkConfigurationServiceTest {
 
     @Test
     void loadConfig() {
 
-        ClientConfiguration clientConfig = mock(ClientConfiguration)
-        DefaultSdkConfigurationService configurationService = configurationService(clientConfig)
+        File userHome = File.createTempDir("loadConfig-", "-test")
+        System.setProperty("user.home", userHome.absolutePath)
+        DefaultSdkConfigurationService configurationService = new DefaultSdkConfigurationService()
 
-        assertThat configurationService.loadUnvalidatedConfiguration(), is(clientConfig)
+        // config from the user's okta.yaml, the result is reused until the file changes
+        configurationService.writeOktaYaml("https://okta.example.com", "an-api-token", new File(userHome, ".okta/okta.yaml"))
+        ClientConfiguration clientConfig = configurationService.loadUnvalidatedConfiguration()
+        assertThat clientConfig.baseUrl, is("https://okta.example.com")
+        assertThat clientConfig.apiToken, is("an-api-token")
+        assertThat configurationService.isConfigured(), is(true)
+
+        // system properties override the file
+        System.setProperty("okta.client.orgUrl", "https://other.example.com")
+        assertThat configurationService.loadUnvalidatedConfiguration().baseUrl, is("https://other.example.com")
+    }
+
+    @Test
+    void notConfigured() {
+
+        System.setProperty("user.home", File.createTempDir("notConfigured-", "-test").absolutePath)
+        assertThat new DefaultSdkConfigurationService().isConfigured(), is(false)
     }
 
     @Test
     void writeSdkConfig() {
 
-        ClientConfiguration clientConfig = mock(ClientConfiguration)
-        DefaultSdkConfigurationService configurationService = configurationService(clientConfig)
+        DefaultSdkConfigurationService configurationService = new DefaultSdkConfigurationService()
 
         File configFile = new File(File.createTempDir("writeSdkConfig-", "-test"), "test.yaml")
         configurationService.writeOktaYaml("https://okta.example.com", "an-api-token", configFile)
@@ -65,16 +82,4 @@ class DefaultSdkConfigurationServiceTest {
                                                                                             PosixFilePermission.OWNER_EXECUTE] as Set)
         }
     }
-
-    private static DefaultSdkConfigurationService configurationService(ClientConfiguration clientConfig) {
-        return new DefaultSdkConfigurationService() {
-            @Override
-            DefaultClientBuilder clientBuilder() {
-
-                DefaultClientBuilder clientBuilder = new DefaultClientBuilder()
-                clientBuilder.clientConfig = clientConfig
-                return clientBuilder
-            }
-        }
-    }
 }
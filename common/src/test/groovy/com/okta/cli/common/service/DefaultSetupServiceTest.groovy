@@ -37,6 +37,9 @@ import org.mockito.ArgumentCaptor
 import org.mockito.Mockito
 import org.testng.annotations.Test
 
+import java.nio.file.Files
+import java.nio.file.Path
+
 import static org.hamcrest.MatcherAssert.assertThat
 import static org.hamcrest.Matchers.is
 import static org.mockito.Mockito.*
@@ -245,6 +248,118 @@ class DefaultSetupServiceTest {
         verify(user).addToGroup("g-2")
     }
 
+    @Test
+    void createOidcApplicationFailureIsJournaled() {
+
+        MutablePropertySource propertySource = mock(MutablePropertySource)
+        String oidcAppName = "test-app-name"
+        String orgUrl = "https://org.example.com"
+        Path journalDir = Files.createTempDirectory("setup-journal-test")
+        File configFile = File.createTempFile("setup-journal-test", ".env")
+        when(propertySource.getFile()).thenReturn(Optional.of(configFile))
+
+        Client client = mock(Client)
+        when(client.getUser("me")).thenThrow(new IllegalStateException("expected test exception"))
+
+        DefaultSetupService setupService = setupService(OidcProperties.oktaEnv(), journalDir)
+        ExtensibleResource resource = mock(ExtensibleResource)
+        when(resource.getString("client_id")).thenReturn("test-client-id")
+        when(resource.getString("client_secret")).thenReturn("test-client-secret")
+        when(setupService.oidcAppCreator.createOidcApp(client, oidcAppName, [], [])).thenReturn(resource)
+
+        try {
+            setupService.createOidcApplication(propertySource, oidcAppName, orgUrl, null, ["group-one"] as Set, null, "test-auth-id", false, OpenIdConnectApplicationType.WEB, client)
+            assert false : "Expected IllegalStateException"
+        } catch (IllegalStateException e) {
+            assertThat e.message, is("expected test exception")
+        }
+
+        // the application was created, the next run resumes the setup
+        SetupJournalTracker journal = new SetupJournalTracker(journalDir, orgUrl, oidcAppName, configFile)
+        assertThat journal.isResumable("test-client-id"), is(true)
+        assertThat journal.isCompleted(SetupJournalTracker.GROUP + "group-one"), is(false)
+
+        // the journal belongs to the config file the client ID was written to
+        File otherConfigFile = File.createTempFile("setup-journal-test", ".env")
+        assertThat new SetupJournalTracker(journalDir, orgUrl, oidcAppName, otherConfigFile).isResumable("test-client-id"), is(false)
+    }
+
+    @Test
+    void createOidcApplicationWithoutConfigFileIsNotJournaled() {
+
+        MutablePropertySource propertySource = mock(MutablePropertySource)
+        when(propertySource.getFile()).thenReturn(Optional.empty())
+        String oidcAppName = "test-app-name"
+        String orgUrl = "https://org.example.com"
+        Path journalDir = Files.createTempDirectory("setup-journal-test")
+
+        Client client = mock(Client)
+        when(client.getUser("me")).thenThrow(new IllegalStateException("expected test exception"))
+
+        DefaultSetupService setupService = setupService(OidcProperties.oktaEnv(), journalDir)
+        ExtensibleResource resource = mock(ExtensibleResource)
+        when(resource.getString("client_id")).thenReturn("test-client-id")
+        when(resource.getString("client_secret")).thenReturn("test-client-secret")
+        when(setupService.oidcAppCreator.createOidcApp(client, oidcAppName, [], [])).thenReturn(resource)
+
+        try {
+            setupService.createOidcApplication(propertySource, oidcAppName, orgUrl, null, ["group-one"] as Set, null, "test-auth-id", false, OpenIdConnectApplicationType.WEB, client)
+            assert false : "Expected IllegalStateException"
+        } catch (IllegalStateException e) {
+            assertThat e.message, is("expected test exception")
+        }
+
+        // the client ID is not stored anywhere, so the setup cannot be resumed
+        assertThat Files.list(journalDir).count(), is(0L)
+    }
+
+    @Test
+    void createOidcApplicationResumesSetup() {
+
+        MutablePropertySource propertySource = mock(MutablePropertySource)
+        User user = mock(User)
+        UserProfile userProfile = mock(UserProfile)
+        GroupList emptyGroupsList = mock(GroupList)
+        Group group1 = mock(Group)
+        GroupProfile group1Profile = mock(GroupProfile)
+        String oidcAppName = "test-app-name"
+        String orgUrl = "https://org.example.com"
+        String groupClaimName = "test-group-claim"
+        Path journalDir = Files.createTempDirectory("setup-journal-test")
+        File configFile = File.createTempFile("setup-journal-test", ".env")
+        when(propertySource.getFile()).thenReturn(Optional.of(configFile))
+
+        // a previous run created the application, the group claim, and one of the groups
+        SetupJournalTracker previousRun = new SetupJournalTracker(journalDir, orgUrl, oidcAppName, configFile)
+        previousRun.start("test-client-id")
+        previousRun.complete(SetupJournalTracker.GROUP_CLAIM + groupClaimName)
+        previousRun.complete(SetupJournalTracker.GROUP + "group-two")
+        when(propertySource.getProperty("okta.oauth2.client-id")).thenReturn("test-client-id")
+
+        Client client = mock(Client)
+        when(client.getUser("me")).thenReturn(user)
+        when(user.getProfile()).thenReturn(userProfile)
+        when(userProfile.getLogin()).thenReturn("test@example.com")
+        when(client.listGroups("group-one", null, null)).thenReturn(emptyGroupsList)
+        when(client.instantiate(Group)).thenReturn(group1)
+        when(client.instantiate(GroupProfile)).thenReturn(group1Profile)
+        when(client.createGroup(group1)).thenReturn(group1)
+        when(group1.getId()).thenReturn("g-1")
+        when(group1.getProfile()).thenReturn(group1Profile)
+
+        DefaultSetupService setupService = setupService(OidcProperties.oktaEnv(), journalDir)
+        setupService.createOidcApplication(propertySource, oidcAppName, orgUrl, groupClaimName, ["group-one", "group-two"] as Set, null, "test-auth-id", false, OpenIdConnectApplicationType.WEB, client)
+
+        // only the missing group is created
+        verify(user).addToGroup("g-1")
+        verify(client, never()).listGroups("group-two", null, null)
+        verify(propertySource, never()).addProperties(any(Map))
+        verifyNoMoreInteractions(setupService.oidcAppCreator, setupService.authorizationServerService)
+
+        // the setup is complete, the journal is removed
+        assertThat Files.list(journalDir).count(), is(0L)
+    }
+
     @Test
     void configureTrustedOriginTest_null() {
 
@@ -362,14 +477,14 @@ class DefaultSetupServiceTest {
         verifyNoMoreInteractions(client)
     }
 
-    private static DefaultSetupService setupService(OidcProperties oidcProperties = OidcProperties.oktaEnv()) {
+    private static DefaultSetupService setupService(OidcProperties oidcProperties = OidcProperties.oktaEnv(), Path journalDir = Files.createTempDirectory("setup-journal-test")) {
         OktaOrganizationCreator organizationCreator = mock(OktaOrganizationCreator)
         SdkConfigurationService sdkConfigurationService = mock(SdkConfigurationService)
         OidcAppCreator oidcAppCreator = mock(OidcAppCreator)
         AuthorizationServerService authServerService = mock(AuthorizationServerService)
         when(sdkConfigurationService.loadUnvalidatedConfiguration()).thenReturn(new ClientConfiguration())
 
-        DefaultSetupService setupService = new DefaultSetupService(sdkConfigurationService, organizationCreator, oidcAppCreator, authServerService, oidcProperties)
+        DefaultSetupService setupService = new DefaultSetupService(sdkConfigurationService, organizationCreator, oidcAppCreator, authServerService, new DefaultTrustedOriginReconciler(), oidcProperties, journalDir)
 
         return setupService
     }
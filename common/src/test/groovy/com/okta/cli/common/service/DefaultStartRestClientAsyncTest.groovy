@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service
+
+import com.github.tomakehurst.wiremock.stubbing.StubMapping
+import com.okta.cli.common.WireMockSupport
+import com.okta.cli.common.model.SamplesListings
+import com.okta.cli.common.model.VersionInfo
+import com.okta.sdk.resource.ResourceException
+import org.testng.annotations.DataProvider
+import org.testng.annotations.Test
+
+import java.nio.file.Files
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.ExecutionException
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.function.IntBinaryOperator
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse
+import static com.github.tomakehurst.wiremock.client.WireMock.get
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.instanceOf
+import static org.hamcrest.Matchers.is
+
+class DefaultStartRestClientAsyncTest implements WireMockSupport {
+
+    private static final int DELAY_MILLIS = 500
+
+    @Override
+    Collection<StubMapping> wireMockStubMapping() {
+        return [
+                get("/samples")
+                        .willReturn(aResponse()
+                                .withFixedDelay(DELAY_MILLIS)
+                                .withHeader("Content-Type", "application/json")
+                                .withBody('{"items": [{"name": "spring-boot", "description": "Spring Boot"}]}')),
+                get("/versions/cli")
+                        .willReturn(aResponse()
+                                .withFixedDelay(DELAY_MILLIS)
+                                .withHeader("Content-Type", "application/json")
+                                .withBody('{"latestVersion": "1.2.3"}')),
+                get("/missing")
+                        .willReturn(aResponse()
+                                .withStatus(404)
+                                .withHeader("Content-Type", "application/json")
+                                .withBody('{"errorCode": "E0000007", "errorSummary": "Not found"}'))
+        ]
+    }
+
+    @DataProvider
+    Object[][] transports() {
+        return [[new ApacheHttpTransport()], [new JdkHttpTransport()]] as Object[][]
+    }
+
+    @Test(dataProvider = "transports")
+    void asyncResults(HttpTransport transport) {
+        DefaultStartRestClient client = new DefaultStartRestClient(baseUrl(), noCache(), transport)
+
+        assertThat client.listSamplesAsync().get().get(0).name, is("spring-boot")
+        assertThat client.getVersionInfoAsync().get().latestVersion, is("1.2.3")
+    }
+
+    @Test(dataProvider = "transports")
+    void errorResponseCompletesExceptionally(HttpTransport transport) {
+        DefaultStartRestClient client = new DefaultStartRestClient(baseUrl(), noCache(), transport)
+
+        try {
+            client.getAsync("/missing", VersionInfo).get()
+            assert false : "Expected ExecutionException"
+        } catch (ExecutionException e) {
+            assertThat e.cause, instanceOf(ResourceException)
+        }
+    }
+
+    @Test(dataProvider = "transports")
+    void blockingResults(HttpTransport transport) {
+        DefaultStartRestClient client = new DefaultStartRestClient(baseUrl(), noCache(), transport)
+
+        assertThat client.listSamples().get(0).name, is("spring-boot")
+        try {
+            client.get("/missing", VersionInfo)
+            assert false : "Expected ResourceException"
+        } catch (ResourceException e) {
+            assertThat e.status, is(404)
+        }
+    }
+
+    @Test(dataProvider = "transports")
+    void asyncRequestsOverlap(HttpTransport transport) {
+        InFlightCountingTransport countingTransport = new InFlightCountingTransport(transport)
+        DefaultStartRestClient client = new DefaultStartRestClient(baseUrl(), noCache(), countingTransport)
+
+        // each response is delayed, the second request is sent while the first is still waiting for its response
+        CompletableFuture<List<SamplesListings.OktaSample>> samples = client.listSamplesAsync()
+        CompletableFuture<VersionInfo> version = client.getVersionInfoAsync()
+        CompletableFuture.allOf(samples, version).get()
+
+        assertThat countingTransport.maxInFlight.get(), is(2)
+    }
+
+    @Test(dataProvider = "transports")
+    void blockingRequestsDoNotOverlap(HttpTransport transport) {
+        InFlightCountingTransport countingTransport = new InFlightCountingTransport(transport)
+        DefaultStartRestClient client = new DefaultStartRestClient(baseUrl(), noCache(), countingTransport)
+
+        client.listSamples()
+        client.getVersionInfo()
+
+        assertThat countingTransport.maxInFlight.get(), is(1)
+    }
+
+    private String baseUrl() {
+        return mockUrl().replaceFirst('/$', '')
+    }
+
+    /**
+     * Tracks the number of requests waiting for a response.
+     */
+    static class InFlightCountingTransport implements HttpTransport {
+
+        private final HttpTransport delegate
+        private final AtomicInteger inFlight = new AtomicInteger()
+        final AtomicInteger maxInFlight = new AtomicInteger()
+
+        InFlightCountingTransport(HttpTransport delegate) {
+            this.delegate = delegate
+        }
+
+        @Override
+        HttpTransport.Response execute(HttpTransport.Request request) throws IOException {
+            started()
+            try {
+                return delegate.execute(request)
+            } finally {
+                inFlight.decrementAndGet()
+            }
+        }
+
+        @Override
+        CompletableFuture<HttpTransport.Response> executeAsync(HttpTransport.Request request) {
+            started()
+            return delegate.executeAsync(request).whenComplete { response, error -> inFlight.decrementAndGet() }
+        }
+
+        private void started() {
+            int current = inFlight.incrementAndGet()
+            maxInFlight.accumulateAndGet(current, { a, b -> Math.max(a, b) } as IntBinaryOperator)
+        }
+    }
+
+    private static ResponseCache noCache() {
+        return new ResponseCache(Files.createTempDirectory("async-client-test"), Duration.ZERO, 0)
+    }
+}
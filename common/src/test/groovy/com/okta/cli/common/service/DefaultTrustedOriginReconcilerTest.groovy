@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service
+
+import com.okta.sdk.client.Client
+import com.okta.sdk.resource.role.Scope
+import com.okta.sdk.resource.role.ScopeType
+import com.okta.sdk.resource.trusted.origin.TrustedOrigin
+import com.okta.sdk.resource.trusted.origin.TrustedOriginList
+import org.mockito.Mockito
+import org.testng.annotations.Test
+
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.is
+import static org.mockito.Mockito.mock
+import static org.mockito.Mockito.never
+import static org.mockito.Mockito.times
+import static org.mockito.Mockito.verify
+import static org.mockito.Mockito.when
+
+class DefaultTrustedOriginReconcilerTest {
+
+    @Test
+    void reconcileOrigins() {
+        Client client = mock(Client)
+        Scope cors = mock(Scope)
+        Scope redirect = mock(Scope)
+        TrustedOriginList origins = mock(TrustedOriginList)
+        TrustedOrigin complete = origin("http://complete.example.com", cors, redirect)
+        TrustedOrigin corsOnly = origin("http://cors.example.com", cors)
+        TrustedOrigin newOrigin = mock(TrustedOrigin, Mockito.RETURNS_SELF)
+
+        when(client.instantiate(Scope)).thenReturn(cors).thenReturn(redirect)
+        when(cors.setType(ScopeType.CORS)).thenReturn(cors)
+        when(cors.getType()).thenReturn(ScopeType.CORS)
+        when(redirect.setType(ScopeType.REDIRECT)).thenReturn(redirect)
+        when(redirect.getType()).thenReturn(ScopeType.REDIRECT)
+        when(client.listOrigins()).thenReturn(origins)
+        when(origins.stream()).thenReturn([complete, corsOnly].stream())
+        when(client.instantiate(TrustedOrigin)).thenReturn(newOrigin)
+
+        TrustedOriginReconciler.Result result = new DefaultTrustedOriginReconciler(4).reconcile(client, [
+                "http://complete.example.com",
+                "http://cors.example.com",
+                "http://new.example.com",
+                "http://new.example.com"])
+
+        assertThat result.created, is(["http://new.example.com"])
+        assertThat result.updated, is(["http://cors.example.com"])
+        assertThat result.unchanged, is(["http://complete.example.com"])
+
+        // the origins are only listed once
+        verify(origins, times(1)).stream()
+        verify(complete, never()).update()
+        verify(corsOnly).setScopes([cors, redirect])
+        verify(corsOnly).update()
+        verify(newOrigin).setOrigin("http://new.example.com")
+        verify(newOrigin).setScopes([cors, redirect])
+        verify(client, times(1)).createOrigin(newOrigin)
+    }
+
+    @Test
+    void emptyOrigins() {
+        Client client = mock(Client)
+        TrustedOriginReconciler.Result result = new DefaultTrustedOriginReconciler(4).reconcile(client, [])
+
+        assertThat result.created.isEmpty(), is(true)
+        Mockito.verifyNoInteractions(client)
+    }
+
+    private static TrustedOrigin origin(String url, Scope... scopes) {
+        TrustedOrigin origin = mock(TrustedOrigin)
+        when(origin.getOrigin()).thenReturn(url)
+        when(origin.getScopes()).thenReturn(scopes as List)
+        return origin
+    }
+}
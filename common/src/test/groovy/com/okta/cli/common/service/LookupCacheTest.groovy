@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service
+
+import com.fasterxml.jackson.core.type.TypeReference
+import com.okta.cli.common.RestoreSystemProperties
+import com.okta.sdk.authc.credentials.TokenClientCredentials
+import com.okta.sdk.client.Client
+import com.okta.sdk.client.Clients
+import org.testng.annotations.Listeners
+import org.testng.annotations.Test
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+import static com.okta.cli.common.service.LookupCache.Lookup.AUTHORIZATION_SERVERS
+import static com.okta.cli.common.service.LookupCache.Lookup.EVERYONE_GROUP
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.is
+import static org.mockito.Mockito.mock
+
+@Listeners([RestoreSystemProperties])
+class LookupCacheTest {
+
+    private static final String ORG_URL = "https://lookup-cache-test.example.com"
+    private static final TypeReference<String> STRING_TYPE = new TypeReference<String>() {}
+
+    @Test
+    void cachedLookupIsKeyedByOrgUrl() {
+        LookupCache cache = newCache()
+        assertThat cache.get(ORG_URL, EVERYONE_GROUP, STRING_TYPE).isPresent(), is(false)
+
+        cache.put(ORG_URL, EVERYONE_GROUP, "group-id")
+        assertThat cache.get(ORG_URL, EVERYONE_GROUP, STRING_TYPE).get(), is("group-id")
+        assertThat cache.get("https://other.example.com", EVERYONE_GROUP, STRING_TYPE).isPresent(), is(false)
+        assertThat cache.get(ORG_URL, AUTHORIZATION_SERVERS, STRING_TYPE).isPresent(), is(false)
+
+        assertThat cache.hits, is(1L)
+        assertThat cache.misses, is(3L)
+    }
+
+    @Test
+    void lookupIsReadByLaterProcess() {
+        Path cacheDir = Files.createTempDirectory("lookup-cache-test")
+        new LookupCache(cacheDir).put(ORG_URL, EVERYONE_GROUP, "group-id")
+
+        assertThat new LookupCache(cacheDir).get(ORG_URL, EVERYONE_GROUP, STRING_TYPE).get(), is("group-id")
+    }
+
+    @Test
+    void expiredLookupIsNotUsed() {
+        Path cacheDir = Files.createTempDirectory("lookup-cache-test")
+        new LookupCache(cacheDir).put(ORG_URL, EVERYONE_GROUP, "group-id")
+
+        System.setProperty("okta.cli.lookupCache.everyoneGroup.ttl", "0")
+        assertThat new LookupCache(cacheDir).get(ORG_URL, EVERYONE_GROUP, STRING_TYPE).isPresent(), is(false)
+    }
+
+    @Test
+    void disabledCacheIsUpdated() {
+        Path cacheDir = Files.createTempDirectory("lookup-cache-test")
+        new LookupCache(cacheDir).put(ORG_URL, EVERYONE_GROUP, "old-id")
+
+        // a later run with --no-cache does not use the old lookup, but shares the new one
+        LookupCache cache = new LookupCache(cacheDir)
+        cache.enabled = false
+        assertThat cache.get(ORG_URL, EVERYONE_GROUP, STRING_TYPE).isPresent(), is(false)
+        cache.put(ORG_URL, EVERYONE_GROUP, "new-id")
+        assertThat cache.get(ORG_URL, EVERYONE_GROUP, STRING_TYPE).get(), is("new-id")
+
+        assertThat new LookupCache(cacheDir).get(ORG_URL, EVERYONE_GROUP, STRING_TYPE).get(), is("new-id")
+    }
+
+    @Test
+    void invalidateRemovesLookup() {
+        LookupCache cache = newCache()
+        cache.put(ORG_URL, EVERYONE_GROUP, "group-id")
+        cache.invalidate(ORG_URL, EVERYONE_GROUP)
+
+        assertThat cache.get(ORG_URL, EVERYONE_GROUP, STRING_TYPE).isPresent(), is(false)
+    }
+
+    @Test
+    void lookupsWithoutOrgUrlAreNotCached() {
+        LookupCache cache = newCache()
+        Client client = mock(Client)
+        assertThat LookupCache.orgUrl(client), is(null)
+
+        cache.put(null, EVERYONE_GROUP, "group-id")
+        assertThat cache.get(null, EVERYONE_GROUP, STRING_TYPE).isPresent(), is(false)
+        assertThat cache.hits + cache.misses, is(0L)
+    }
+
+    @Test
+    void authorizationServersAreRestoredFromCache() {
+        LookupCache cache = newCache()
+        Client client = Clients.builder()
+                .setOrgUrl(ORG_URL)
+                .setClientCredentials(new TokenClientCredentials("test-token"))
+                .build()
+        cache.put(LookupCache.orgUrl(client), AUTHORIZATION_SERVERS, [[id: "aus-id", name: "default", issuer: "${ORG_URL}/oauth2/default".toString()]])
+
+        def asMap = new DefaultAuthorizationServerService(cache).authorizationServersMap(client)
+        assertThat asMap.keySet(), is(["aus-id"] as Set)
+        assertThat asMap.get("aus-id").name, is("default")
+        assertThat asMap.get("aus-id").issuer, is("${ORG_URL}/oauth2/default".toString())
+    }
+
+    private static LookupCache newCache() {
+        return new LookupCache(Files.createTempDirectory("lookup-cache-test"))
+    }
+}
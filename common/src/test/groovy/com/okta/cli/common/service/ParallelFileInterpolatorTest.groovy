@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service
+
+import org.testng.annotations.Test
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.containsString
+import static org.hamcrest.Matchers.equalTo
+import static org.hamcrest.Matchers.is
+
+class ParallelFileInterpolatorTest {
+
+    @Test
+    void filesAreInterpolated() {
+        Path dir = Files.createTempDirectory("parallel-interpolator-test")
+        List<Path> files = (0..<200).collect {
+            Files.writeString(dir.resolve("file-${it}.txt"), 'value=${foo}')
+        }
+        Path binary = dir.resolve("image.png")
+        Files.writeString(binary, 'value=${foo}')
+
+        ParallelFileInterpolator interpolator = new ParallelFileInterpolator(new TemplateInterpolator(), [foo: "bar"], new BinaryFileDetector(dir), null, 4)
+        (files + binary).each { interpolator.submit(it) }
+        interpolator.await()
+
+        files.each {
+            assertThat Files.readString(it), is("value=bar")
+        }
+        assertThat Files.readString(binary), is('value=${foo}')
+    }
+
+    @Test
+    void firstFailureInPathOrderIsReported() {
+        Path dir = Files.createTempDirectory("parallel-interpolator-test")
+        Interpolator failing = new Interpolator() {
+            @Override
+            String interpolate(String text, Map<String, String> context) {
+                return text
+            }
+
+            @Override
+            void interpolate(Path path, Map<String, String> context) throws IOException {
+                if (path.fileName.toString().startsWith("fail")) {
+                    throw new IOException("failed: " + path.fileName)
+                }
+            }
+        }
+
+        ParallelFileInterpolator interpolator = new ParallelFileInterpolator(failing, [:], new BinaryFileDetector(), null, 4)
+        ["ok-1", "fail-c", "fail-a", "ok-2", "fail-b"].each {
+            interpolator.submit(Files.writeString(dir.resolve(it), "text"))
+        }
+
+        try {
+            interpolator.await()
+            assert false : "Expected IOException"
+        } catch (IOException e) {
+            assertThat e.message, containsString("Failed to filter 3 file(s), first failure: " + dir.resolve("fail-a"))
+            assertThat e.cause.message, equalTo("failed: fail-a")
+            assertThat e.suppressed*.message, equalTo(["failed: fail-b", "failed: fail-c"])
+        }
+    }
+
+    @Test
+    void unchangedFilesAreSkipped() {
+        Path dir = Files.createTempDirectory("parallel-interpolator-test")
+        Path done = Files.writeString(dir.resolve("done.txt"), 'value=${foo}')
+        Path pending = Files.writeString(dir.resolve("pending.txt"), 'value=${bar}')
+        filter(dir, [foo: "one"], done, pending)
+
+        assertThat Files.readString(done), is("value=one")
+        assertThat Files.readString(pending), is('value=${bar}')
+        assertThat Files.exists(dir.resolve(".okta/interpolation-manifest.json")), is(true)
+
+        // nothing changed
+        assertThat filter(dir, [foo: "one"], done, pending).unchangedFiles, is(2L)
+
+        // the file was modified, and a placeholder left in a file has a value now
+        Files.writeString(done, 'value=${foo}!')
+        InterpolationManifestTracker manifest = filter(dir, [foo: "two", bar: "three"], done, pending)
+        assertThat manifest.unchangedFiles, is(0L)
+        assertThat Files.readString(done), is("value=two!")
+        assertThat Files.readString(pending), is("value=three")
+    }
+
+    private static InterpolationManifestTracker filter(Path dir, Map<String, String> context, Path... files) {
+        InterpolationManifestTracker manifest = new InterpolationManifestTracker(dir, context)
+        ParallelFileInterpolator interpolator = new ParallelFileInterpolator(new TemplateInterpolator(), context, new BinaryFileDetector(), manifest, 2)
+        files.each { interpolator.submit(it) }
+        interpolator.await()
+        return manifest
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service
+
+import com.github.tomakehurst.wiremock.stubbing.StubMapping
+import com.okta.cli.common.WireMockSupport
+import com.okta.cli.common.model.VersionInfo
+import org.testng.annotations.BeforeMethod
+import org.testng.annotations.Test
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse
+import static com.github.tomakehurst.wiremock.client.WireMock.get
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.greaterThanOrEqualTo
+import static org.hamcrest.Matchers.is
+import static org.hamcrest.Matchers.sameInstance
+
+class PooledHttpClientTest implements WireMockSupport {
+
+    @Override
+    Collection<StubMapping> wireMockStubMapping() {
+        return [
+                get("/versions/cli")
+                        .willReturn(aResponse()
+                                .withHeader("Content-Type", "application/json")
+                                .withBody('{"latestVersion": "1.2.3"}'))
+        ]
+    }
+
+    @BeforeMethod
+    void resetStats() {
+        // the stats are shared by every client in the JVM, including those used by earlier tests
+        PooledHttpClient.stats().reset()
+    }
+
+    @Test
+    void sharedClientInstance() {
+        assertThat PooledHttpClient.get(), sameInstance(PooledHttpClient.get())
+    }
+
+    @Test
+    void connectionsAreReused() {
+        DefaultStartRestClient client = new DefaultStartRestClient(mockUrl().replaceFirst('/$', ''))
+
+        3.times {
+            VersionInfo versionInfo = client.get("/versions/cli", VersionInfo)
+            assertThat versionInfo.latestVersion, is("1.2.3")
+        }
+
+        // the first request may open a new connection, every request after that should use the pool
+        assertThat PooledHttpClient.stats().reusedRequests, greaterThanOrEqualTo(2L)
+    }
+}
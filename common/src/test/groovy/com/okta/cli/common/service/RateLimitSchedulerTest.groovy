@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service
+
+import com.okta.commons.http.DefaultRequest
+import com.okta.commons.http.DefaultResponse
+import com.okta.commons.http.HttpHeaders
+import com.okta.commons.http.HttpMethod
+import com.okta.commons.http.MediaType
+import com.okta.commons.http.Request
+import com.okta.commons.http.Response
+import org.testng.annotations.Test
+
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.allOf
+import static org.hamcrest.Matchers.greaterThanOrEqualTo
+import static org.hamcrest.Matchers.is
+import static org.hamcrest.Matchers.lessThan
+
+class RateLimitSchedulerTest {
+
+    private static final String ORG_URL = "https://rate-limit.example.com"
+    private static final long NOW_MILLIS = 1_700_000_000_000L
+
+    @Test
+    void bucketKeyReplacesIds() {
+        assertThat RateLimitScheduler.bucketKey(request(HttpMethod.GET, "/api/v1/apps/0oa1b2c3d4e5f6g7h8i9/groups/00g1b2c3d4e5f6g7h8i9")),
+                is("GET /api/v1/apps/{id}/groups/{id}")
+        assertThat RateLimitScheduler.bucketKey(request(HttpMethod.POST, "/api/v1/trustedOrigins")),
+                is("POST /api/v1/trustedOrigins")
+    }
+
+    @Test
+    void requestsWaitWhenNoTokensRemain() {
+        FakeClock clock = new FakeClock()
+        RateLimitScheduler scheduler = new RateLimitScheduler(Duration.ofMinutes(1), clock)
+        Request request = request(HttpMethod.POST, "/api/v1/groups")
+
+        // no headers seen yet
+        scheduler.acquire(request)
+        scheduler.update(request, response(10, 1, 30))
+
+        // the last token is used
+        scheduler.acquire(request)
+        assertThat scheduler.delayedRequests, is(0L)
+
+        // the next request waits for the window to reset
+        scheduler.acquire(request)
+        assertThat scheduler.delayedRequests, is(1L)
+        assertThat scheduler.totalWaitTime, is(Duration.ofSeconds(30))
+        assertThat scheduler.maxQueueDepth, is(1)
+        assertThat scheduler.queueDepth, is(0)
+
+        // a new window has started
+        scheduler.acquire(request)
+        assertThat scheduler.delayedRequests, is(1L)
+    }
+
+    @Test
+    void bucketsAreSeparate() {
+        FakeClock clock = new FakeClock()
+        RateLimitScheduler scheduler = new RateLimitScheduler(Duration.ofMinutes(1), clock)
+        Request groups = request(HttpMethod.POST, "/api/v1/groups")
+        scheduler.update(groups, response(10, 0, 30))
+
+        scheduler.acquire(request(HttpMethod.GET, "/api/v1/groups"))
+        scheduler.acquire(request(HttpMethod.POST, "/api/v1/apps"))
+        assertThat scheduler.delayedRequests, is(0L)
+
+        scheduler.acquire(groups)
+        assertThat scheduler.delayedRequests, is(1L)
+    }
+
+    @Test
+    void waitIsLimited() {
+        FakeClock clock = new FakeClock()
+        RateLimitScheduler scheduler = new RateLimitScheduler(Duration.ofSeconds(5), clock)
+        Request request = request(HttpMethod.GET, "/api/v1/logs")
+        scheduler.update(request, response(10, 0, 60))
+
+        scheduler.acquire(request)
+        assertThat scheduler.totalWaitTime, is(Duration.ofSeconds(5))
+    }
+
+    @Test
+    void outOfOrderResponsesKeepLowestRemaining() {
+        FakeClock clock = new FakeClock()
+        RateLimitScheduler scheduler = new RateLimitScheduler(Duration.ofMinutes(1), clock)
+        Request request = request(HttpMethod.GET, "/api/v1/users/me")
+        scheduler.update(request, response(10, 0, 30))
+        scheduler.update(request, response(10, 5, 30))
+
+        scheduler.acquire(request)
+        assertThat scheduler.delayedRequests, is(1L)
+    }
+
+    @Test
+    void negativeNanoTimeIsLimited() {
+        // System.nanoTime() has an arbitrary origin and can be negative
+        FakeClock clock = new FakeClock(nanos: -TimeUnit.DAYS.toNanos(1))
+        RateLimitScheduler scheduler = new RateLimitScheduler(Duration.ofMinutes(1), clock)
+        Request request = request(HttpMethod.POST, "/api/v1/groups")
+        scheduler.update(request, response(1, 0, 30, clock.currentTimeMillis()))
+
+        // waits for the window to reset, and takes its only token
+        scheduler.acquire(request)
+        assertThat scheduler.delayedRequests, is(1L)
+
+        // no tokens are left until a response reports the next window
+        scheduler.acquire(request)
+        assertThat scheduler.delayedRequests, is(2L)
+    }
+
+    @Test
+    void waitingRequestsTakeTokensFromTheNewWindow() {
+        FakeClock clock = new FakeClock()
+        RateLimitScheduler scheduler = new RateLimitScheduler(Duration.ofMinutes(1), clock)
+        Request request = request(HttpMethod.POST, "/api/v1/groups")
+        scheduler.update(request, response(1, 0, 30))
+
+        // the first request takes the only token of the new window
+        scheduler.acquire(request)
+        assertThat clock.nanos, is(TimeUnit.SECONDS.toNanos(30))
+
+        // the second request keeps waiting, until the first response reports the next window, and that window resets
+        clock.onSleep = {
+            scheduler.update(request, response(1, 0, 30, clock.currentTimeMillis()))
+            clock.onSleep = {}
+        }
+        scheduler.acquire(request)
+        // the Date header only has a resolution of seconds
+        assertThat clock.nanos, allOf(greaterThanOrEqualTo(TimeUnit.SECONDS.toNanos(60)), lessThan(TimeUnit.SECONDS.toNanos(61)))
+        assertThat scheduler.delayedRequests, is(2L)
+        assertThat scheduler.totalWaitTime, is(Duration.ofNanos(clock.nanos))
+    }
+
+    @Test
+    void waitingRequestsWithoutTokensStopAtMaxWait() {
+        FakeClock clock = new FakeClock()
+        RateLimitScheduler scheduler = new RateLimitScheduler(Duration.ofSeconds(5), clock)
+        Request request = request(HttpMethod.POST, "/api/v1/groups")
+        scheduler.update(request, response(1, 0, 2))
+
+        scheduler.acquire(request)
+        // no response reports the next window, the request is sent once the max wait is reached
+        scheduler.acquire(request)
+        assertThat scheduler.totalWaitTime, is(Duration.ofSeconds(7))
+    }
+
+    private static Request request(HttpMethod method, String path) {
+        return new DefaultRequest(method, ORG_URL + path)
+    }
+
+    private static Response response(long limit, long remaining, long resetInSeconds, long nowMillis = NOW_MILLIS) {
+        HttpHeaders headers = new HttpHeaders()
+        headers.set(RateLimitScheduler.LIMIT_HEADER, Long.toString(limit))
+        headers.set(RateLimitScheduler.REMAINING_HEADER, Long.toString(remaining))
+        headers.set(RateLimitScheduler.RESET_HEADER, Long.toString(TimeUnit.MILLISECONDS.toSeconds(nowMillis) + resetInSeconds))
+        headers.setDate(nowMillis)
+        DefaultResponse response = new DefaultResponse(200, MediaType.APPLICATION_JSON, null, 0)
+        response.headers = headers
+        return response
+    }
+
+    static class FakeClock implements RateLimitScheduler.Clock {
+
+        long nanos = 0
+        Closure onSleep = {}
+
+        @Override
+        long nanoTime() {
+            return nanos
+        }
+
+        @Override
+        long currentTimeMillis() {
+            return NOW_MILLIS + TimeUnit.NANOSECONDS.toMillis(nanos)
+        }
+
+        @Override
+        void sleep(long sleepNanos) {
+            nanos += sleepNanos
+            onSleep()
+        }
+    }
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service
+
+import com.fasterxml.jackson.core.JsonProcessingException
+import com.github.tomakehurst.wiremock.stubbing.StubMapping
+import com.okta.cli.common.WireMockSupport
+import org.testng.annotations.Test
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.attribute.FileTime
+import java.time.Duration
+import java.util.concurrent.CompletableFuture
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo
+import static com.github.tomakehurst.wiremock.client.WireMock.get
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.is
+import static org.hamcrest.Matchers.lessThanOrEqualTo
+
+class ResponseCacheTest implements WireMockSupport {
+
+    private static final String SAMPLES = '{"items": [{"name": "spring-boot", "description": "Spring Boot"}]}'
+
+    @Override
+    Collection<StubMapping> wireMockStubMapping() {
+        return [
+                get("/samples")
+                        .withHeader("If-None-Match", equalTo('"v1"'))
+                        .atPriority(1)
+                        .willReturn(aResponse().withStatus(304)),
+                get("/samples")
+                        .atPriority(2)
+                        .willReturn(aResponse()
+                                .withHeader("Content-Type", "application/json")
+                                .withHeader("ETag", '"v1"')
+                                .withBody(SAMPLES))
+        ]
+    }
+
+    @Test
+    void freshEntryDoesNotMakeRequest() {
+        ResponseCache cache = new ResponseCache(tempDir(), Duration.ofHours(1), 1024 * 1024)
+        DefaultStartRestClient client = new DefaultStartRestClient(baseUrl(), cache)
+
+        wireMockServer.resetRequests()
+        assertThat client.listSamples().get(0).name, is("spring-boot")
+        assertThat client.listSamples().get(0).name, is("spring-boot")
+
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/samples")))
+    }
+
+    @Test
+    void staleEntryIsRevalidated() {
+        ResponseCache cache = new ResponseCache(tempDir(), Duration.ZERO, 1024 * 1024)
+        DefaultStartRestClient client = new DefaultStartRestClient(baseUrl(), cache)
+
+        wireMockServer.resetRequests()
+        client.listSamples()
+        assertThat client.listSamples().get(0).name, is("spring-boot")
+
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/samples")).withHeader("If-None-Match", equalTo('"v1"')))
+    }
+
+    @Test
+    void cachedEntryUsedWhenOffline() {
+        Path cacheDir = tempDir()
+        new DefaultStartRestClient(baseUrl(), new ResponseCache(cacheDir, Duration.ZERO, 1024 * 1024)).listSamples()
+
+        DefaultStartRestClient offlineClient = new DefaultStartRestClient(baseUrl(), new ResponseCache(cacheDir, Duration.ZERO, 1024 * 1024), offlineTransport())
+        assertThat offlineClient.listSamples().get(0).name, is("spring-boot")
+    }
+
+    @Test
+    void offlineWithoutCachedEntry() {
+        DefaultStartRestClient offlineClient = new DefaultStartRestClient(baseUrl(), new ResponseCache(tempDir(), Duration.ZERO, 1024 * 1024), offlineTransport())
+        try {
+            offlineClient.listSamples()
+            assert false : "Expected ConnectException"
+        } catch (ConnectException e) {
+            assertThat e.message, is("Connection refused")
+        }
+    }
+
+    @Test
+    void malformedResponseIsNotReplacedByCachedEntry() {
+        Path cacheDir = tempDir()
+        new DefaultStartRestClient(baseUrl(), new ResponseCache(cacheDir, Duration.ZERO, 1024 * 1024)).listSamples()
+
+        HttpTransport malformedTransport = new HttpTransport() {
+            @Override
+            HttpTransport.Response execute(HttpTransport.Request request) throws IOException {
+                return new HttpTransport.Response(200, ["Content-Type": ["application/json"]], new ByteArrayInputStream("not json".bytes))
+            }
+
+            @Override
+            CompletableFuture<HttpTransport.Response> executeAsync(HttpTransport.Request request) {
+                return CompletableFuture.completedFuture(execute(request))
+            }
+        }
+        DefaultStartRestClient client = new DefaultStartRestClient(baseUrl(), new ResponseCache(cacheDir, Duration.ZERO, 1024 * 1024), malformedTransport)
+        try {
+            client.listSamples()
+            assert false : "Expected JsonProcessingException"
+        } catch (JsonProcessingException e) {
+            // expected, the server was reached, the stale entry is not used
+        }
+    }
+
+    @Test
+    void sizeLimitEvictsOldEntries() {
+        Path cacheDir = tempDir()
+        ResponseCache cache = new ResponseCache(cacheDir, Duration.ofHours(1), 100)
+        cache.put("https://example.com/one", null, new byte[80])
+        // make sure the first entry is the oldest
+        Files.list(cacheDir).each { Files.setLastModifiedTime(it, FileTime.fromMillis(0)) }
+        cache.put("https://example.com/two", null, new byte[80])
+
+        assertThat cache.get("https://example.com/two").isPresent(), is(true)
+        long totalSize = Files.list(cacheDir)
+                .filter { it.fileName.toString().endsWith(".body") }
+                .mapToLong { Files.size(it) }
+                .sum()
+        assertThat totalSize, lessThanOrEqualTo(100L)
+    }
+
+    private String baseUrl() {
+        return mockUrl().replaceFirst('/$', '')
+    }
+
+    private static HttpTransport offlineTransport() {
+        return new HttpTransport() {
+            @Override
+            HttpTransport.Response execute(HttpTransport.Request request) throws IOException {
+                throw new ConnectException("Connection refused")
+            }
+
+            @Override
+            CompletableFuture<HttpTransport.Response> executeAsync(HttpTransport.Request request) {
+                return CompletableFuture.failedFuture(new ConnectException("Connection refused"))
+            }
+        }
+    }
+
+    private static Path tempDir() {
+        return Files.createTempDirectory("response-cache-test")
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service
+
+import org.testng.annotations.Test
+
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.is
+
+class SampleFileFilterTest {
+
+    @Test
+    void defaultExcludes() {
+        SampleFileFilter filter = new SampleFileFilter()
+        assertThat filter.test("pom.xml"), is(true)
+        assertThat filter.test("src/main/resources/application.properties"), is(true)
+        assertThat filter.test(".git/config"), is(false)
+        assertThat filter.test("web/node_modules/lib/index.js"), is(false)
+        assertThat filter.test("target/classes/application.properties"), is(false)
+        assertThat filter.test("app/build/resources/main/application.yml"), is(false)
+        assertThat filter.test("build.gradle"), is(true)
+        assertThat filter.isExcludedDirectory("module/target"), is(true)
+        assertThat filter.isExcludedDirectory("web/node_modules"), is(true)
+        assertThat filter.isExcludedDirectory("src"), is(false)
+        assertThat filter.isExcludedDirectory(""), is(false)
+    }
+
+    @Test
+    void includesAndExcludes() {
+        SampleFileFilter filter = new SampleFileFilter(["src/main/resources/*.properties", "*.yaml"], ["target/", "src/test/**"])
+
+        assertThat filter.test("src/main/resources/application.properties"), is(true)
+        assertThat filter.test("config/application.yaml"), is(true)
+        assertThat filter.test("src/main/resources/nested/application.properties"), is(false)
+        assertThat filter.test("pom.xml"), is(false)
+        assertThat filter.test("target/classes/application.yaml"), is(false)
+        assertThat filter.test("src/test/resources/application.yaml"), is(false)
+
+        assertThat filter.isExcludedDirectory("target"), is(true)
+        assertThat filter.isExcludedDirectory("module/target"), is(true)
+        assertThat filter.isExcludedDirectory("src/test/java"), is(true)
+        assertThat filter.isExcludedDirectory("src/main"), is(false)
+    }
+}
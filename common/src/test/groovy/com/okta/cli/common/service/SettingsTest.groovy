@@ -0,0 +1,45 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service
+
+import org.testng.annotations.AfterMethod
+import org.testng.annotations.Test
+
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.is
+
+class SettingsTest {
+
+    @AfterMethod
+    void clearProperties() {
+        System.clearProperty("okta.cli.http.maxConnections")
+    }
+
+    @Test
+    void httpMaxConnections() {
+        System.setProperty("okta.cli.http.maxConnections", "25")
+        assertThat Settings.getHttpMaxConnections(), is(25)
+    }
+
+    @Test
+    void httpMaxConnectionsIsAtLeastOne() {
+        System.setProperty("okta.cli.http.maxConnections", "0")
+        assertThat Settings.getHttpMaxConnections(), is(1)
+
+        System.setProperty("okta.cli.http.maxConnections", "-5")
+        assertThat Settings.getHttpMaxConnections(), is(1)
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service
+
+import com.github.tomakehurst.wiremock.stubbing.StubMapping
+import com.okta.cli.common.WireMockSupport
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream
+import org.testng.annotations.Test
+
+import java.nio.file.Files
+import java.nio.file.Path
+import java.nio.file.attribute.PosixFilePermission
+import java.util.concurrent.Callable
+import java.util.concurrent.CyclicBarrier
+import java.util.concurrent.ExecutorService
+import java.util.concurrent.Executors
+import java.util.concurrent.Future
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo
+import static com.github.tomakehurst.wiremock.client.WireMock.get
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.hasItem
+import static org.hamcrest.Matchers.is
+import static org.hamcrest.Matchers.not
+
+class TarballExtractorTest implements WireMockSupport {
+
+    private static final int FILE_COUNT = 500
+    private static final int LARGE_FILE_SIZE = 1024 * 1024
+    private static final byte[] BINARY_CONTENT = ([(byte) 0xff, (byte) 0xfe] + ('${issuer}'.bytes as List)) as byte[]
+
+    @Override
+    Collection<StubMapping> wireMockStubMapping() {
+        return [
+                get("/sample.tar.gz")
+                        .withHeader("If-None-Match", equalTo('"abc123"'))
+                        .atPriority(1)
+                        .willReturn(aResponse().withStatus(304)),
+                get("/sample.tar.gz")
+                        .atPriority(2)
+                        .willReturn(aResponse()
+                                .withHeader("Content-Type", "application/gzip")
+                                .withHeader("ETag", '"abc123"')
+                                .withBody(tarball())),
+                get("/missing.tar.gz")
+                        .willReturn(aResponse().withStatus(404))
+        ]
+    }
+
+    @Test
+    void extractWithWriterPool() {
+        assertExtracted(new TarballExtractor(4, new SampleTarballCache(tempDir(), Long.MAX_VALUE), false))
+    }
+
+    @Test
+    void extractWithSingleWriter() {
+        assertExtracted(new TarballExtractor(1, new SampleTarballCache(tempDir(), Long.MAX_VALUE), false))
+    }
+
+    @Test
+    void cachedTarballIsRevalidated() {
+        Path cacheDir = tempDir()
+        SampleTarballCache cache = new SampleTarballCache(cacheDir, Long.MAX_VALUE)
+        assertExtracted(new TarballExtractor(2, cache, false))
+
+        wireMockServer.resetRequests()
+        assertExtracted(new TarballExtractor(2, cache, false))
+
+        // the server responded with a 304 and no body, the files were extracted from the cached tarball
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/sample.tar.gz")))
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/sample.tar.gz")).withHeader("If-None-Match", equalTo('"abc123"')))
+        assertThat Files.list(cacheDir).filter { it.fileName.toString().endsWith(SampleTarballCache.BLOB_SUFFIX) }.count(), is(1L)
+    }
+
+    @Test
+    void offlineUsesCachedTarball() {
+        SampleTarballCache cache = new SampleTarballCache(tempDir(), Long.MAX_VALUE)
+        assertExtracted(new TarballExtractor(2, cache, false))
+
+        wireMockServer.resetRequests()
+        assertExtracted(new TarballExtractor(2, cache, true))
+
+        wireMockServer.verify(0, getRequestedFor(urlEqualTo("/sample.tar.gz")))
+    }
+
+    @Test
+    void offlineWithoutCachedTarball() {
+        TarballExtractor extractor = new TarballExtractor(2, new SampleTarballCache(tempDir(), Long.MAX_VALUE), true)
+        try {
+            extractor.extract(mockUrl() + "sample.tar.gz", tempDir().toFile())
+            assert false : "Expected IOException"
+        } catch (IOException e) {
+            assertThat e.message.contains("not available offline"), is(true)
+        }
+    }
+
+    @Test
+    void sizeLimitEvictsTarballs() {
+        Path cacheDir = tempDir()
+        assertExtracted(new TarballExtractor(2, new SampleTarballCache(cacheDir, 0), false))
+
+        assertThat Files.list(cacheDir).anyMatch { it.fileName.toString().endsWith(".tar.gz") }, is(false)
+    }
+
+    @Test
+    void extractInPhasesWithInterpolation() {
+        TarballExtractor extractor = new TarballExtractor(2, new SampleTarballCache(tempDir(), Long.MAX_VALUE), false)
+        Path targetDir = tempDir()
+        String url = mockUrl() + "sample.tar.gz"
+
+        wireMockServer.resetRequests()
+        extractor.extract(url, targetDir.toFile(), { it.startsWith(".okta/") }, { true }, [:], new BinaryFileDetector())
+        assertThat Files.exists(targetDir.resolve(".okta/sample-config.yaml")), is(true)
+        assertThat Files.exists(targetDir.resolve("application.properties")), is(false)
+
+        BinaryFileDetector binaryFiles = new BinaryFileDetector(targetDir)
+        extractor.extract(url, targetDir.toFile(), { !it.startsWith(".okta/") }, new SampleFileFilter(), [issuer: "https://example.okta.com"], binaryFiles)
+        assertThat Files.readString(targetDir.resolve("application.properties")), is("issuer=https://example.okta.com")
+        assertThat Files.readString(targetDir.resolve(".okta/sample-config.yaml")), is('issuer: ${issuer}')
+        assertThat Files.readAllBytes(targetDir.resolve("binary.bin")), is(BINARY_CONTENT)
+        // binary.bin and large.bin
+        assertThat binaryFiles.skippedFiles, is(2L)
+
+        // the tarball is only downloaded once
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/sample.tar.gz")))
+    }
+
+    @Test
+    void concurrentWritersCreateTheSameDirectory() {
+        int threads = 8
+        ExecutorService pool = Executors.newFixedThreadPool(threads)
+        try {
+            100.times {
+                Path directory = tempDir().resolve("a/b/c")
+                TarballExtractor.EntryWriter entryWriter = new TarballExtractor.EntryWriter(false, new TemplateInterpolator(), { true }, [:], new BinaryFileDetector())
+                CyclicBarrier barrier = new CyclicBarrier(threads)
+
+                // every writer must be able to write into the directory as soon as createDirectory() returns
+                List<Future<Path>> files = (0..<threads).collect { index ->
+                    pool.submit({
+                        barrier.await()
+                        entryWriter.createDirectory(directory)
+                        return Files.write(directory.resolve("file${index}.txt"), new byte[0])
+                    } as Callable<Path>)
+                }
+                files*.get()
+            }
+        } finally {
+            pool.shutdownNow()
+        }
+    }
+
+    @Test
+    void failedDownload() {
+        Path targetDir = tempDir()
+        try {
+            new TarballExtractor(2, new SampleTarballCache(tempDir(), Long.MAX_VALUE), false).extract(mockUrl() + "missing.tar.gz", targetDir.toFile())
+            assert false : "Expected IOException"
+        } catch (IOException e) {
+            assertThat e.message.startsWith("Failed to download: 404"), is(true)
+        }
+    }
+
+    private void assertExtracted(TarballExtractor extractor) {
+        Path targetDir = tempDir()
+        extractor.extract(mockUrl() + "sample.tar.gz", targetDir.toFile())
+
+        FILE_COUNT.times {
+            assertThat Files.readString(targetDir.resolve("dir${it % 10}/file${it}.txt")), is("file ${it}".toString())
+        }
+        assertThat Files.size(targetDir.resolve("large.bin")), is((long) LARGE_FILE_SIZE)
+
+        if (Files.getFileStore(targetDir).supportsFileAttributeView("posix")) {
+            assertThat Files.getPosixFilePermissions(targetDir.resolve("dir0/file0.txt")), hasItem(PosixFilePermission.OWNER_EXECUTE)
+            assertThat Files.getPosixFilePermissions(targetDir.resolve("dir1/file1.txt")), not(hasItem(PosixFilePermission.OWNER_EXECUTE))
+        }
+    }
+
+    private static Path tempDir() {
+        return Files.createTempDirectory("tarball-extractor-test")
+    }
+
+    private static byte[] tarball() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream()
+        new TarArchiveOutputStream(new GzipCompressorOutputStream(out)).withCloseable { tar ->
+            FILE_COUNT.times {
+                addEntry(tar, "sample/dir${it % 10}/file${it}.txt", "file ${it}".bytes, it % 2 == 0 ? 0755 : 0644)
+            }
+            addEntry(tar, "sample/large.bin", new byte[LARGE_FILE_SIZE], 0644)
+            addEntry(tar, "sample/.okta/sample-config.yaml", 'issuer: ${issuer}'.bytes, 0644)
+            addEntry(tar, "sample/application.properties", 'issuer=${issuer}'.bytes, 0644)
+            addEntry(tar, "sample/binary.bin", BINARY_CONTENT, 0644)
+        }
+        return out.toByteArray()
+    }
+
+    private static void addEntry(TarArchiveOutputStream tar, String name, byte[] content, int mode) {
+        TarArchiveEntry entry = new TarArchiveEntry(name)
+        entry.size = content.length
+        entry.mode = mode
+        tar.putArchiveEntry(entry)
+        tar.write(content)
+        tar.closeArchiveEntry()
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service
+
+import org.testng.annotations.Test
+
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.containsInAnyOrder
+import static org.hamcrest.Matchers.empty
+import static org.hamcrest.Matchers.is
+
+class TaskGraphTest {
+
+    @Test
+    void dependentTasksUseResult() {
+        List<String> results = new CopyOnWriteArrayList<>()
+        TaskGraph graph = new TaskGraph(4)
+        TaskGraph.Task<String> user = graph.supply("user", { "test-user" })
+        ["one", "two", "three"].each { group ->
+            graph.add("group ${group}", { results.add("${user.get()}:${group}".toString()) }, user)
+        }
+        graph.run()
+
+        assertThat results, containsInAnyOrder("test-user:one", "test-user:two", "test-user:three")
+    }
+
+    @Test
+    void independentTasksRunConcurrently() {
+        // both tasks must be running at the same time for either of them to finish
+        CountDownLatch latch = new CountDownLatch(2)
+        TaskGraph graph = new TaskGraph(2)
+        2.times {
+            graph.add("task ${it}", {
+                latch.countDown()
+                assert latch.await(10, TimeUnit.SECONDS)
+            })
+        }
+        graph.run()
+
+        assertThat latch.count, is(0L)
+    }
+
+    @Test
+    void failureStopsRemainingTasks() {
+        List<String> ran = new CopyOnWriteArrayList<>()
+        TaskGraph graph = new TaskGraph(1)
+        TaskGraph.Task<Void> failing = graph.add("failing", { throw new IllegalStateException("expected failure") })
+        graph.add("dependent", { ran.add("dependent") }, failing)
+        graph.add("independent", { ran.add("independent") })
+
+        try {
+            graph.run()
+            assert false : "Expected IllegalStateException"
+        } catch (IllegalStateException e) {
+            assertThat e.message, is("expected failure")
+        }
+        assertThat ran, empty()
+    }
+
+    @Test
+    void emptyGraph() {
+        new TaskGraph(4).run()
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2026-Present Okta, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.okta.cli.common.service
+
+import org.testng.annotations.DataProvider
+import org.testng.annotations.Test
+
+import static org.hamcrest.MatcherAssert.assertThat
+import static org.hamcrest.Matchers.equalTo
+import static org.hamcrest.Matchers.is
+import static org.hamcrest.Matchers.sameInstance
+
+class TemplateInterpolatorTest {
+
+    private static final Map<String, String> CONTEXT = [
+            CLI_OKTA_ISSUER: "https://dev-123.okta.com/oauth2/default",
+            CLI_OKTA_ORG_URL: "https://dev-123.okta.com/",
+            CLI_OKTA_CLIENT_ID: "0oa123",
+            CLI_OKTA_CLIENT_SECRET: null,
+            nested: 'issuer=${CLI_OKTA_ISSUER}',
+            cycle: '${cycle}'
+    ]
+
+    @DataProvider
+    Object[][] templates() {
+        return [
+                ['no placeholders'],
+                ['issuer=${CLI_OKTA_ISSUER}'],
+                ['${CLI_OKTA_ORG_URL}${CLI_OKTA_CLIENT_ID}'],
+                ['${CLI_OKTA_ISSUER_ID} is not a key, ${CLI_OKTA_ISSUER} is'],
+                ['secret=${CLI_OKTA_CLIENT_SECRET}'],
+                ['${unknown} and ${.CLI_OKTA_CLIENT_ID}'],
+                ['${nested}'],
+                ['unterminated ${CLI_OKTA_ISSUER'],
+                ['${foo${CLI_OKTA_CLIENT_ID}}'],
+                ['$$ {} ${} $'],
+        ] as Object[][]
+    }
+
+    @Test(dataProvider = "templates")
+    void sameResultAsDefaultInterpolator(String template) {
+        assertThat new TemplateInterpolator().interpolate(template, CONTEXT),
+                equalTo(new DefaultInterpolator().interpolate(template, CONTEXT))
+    }
+
+    @Test
+    void noPlaceholdersReturnsSameInstance() {
+        String text = "no placeholders here"
+        assertThat new TemplateInterpolator().interpolate(text, CONTEXT), sameInstance(text)
+    }
+
+    @Test
+    void contextChangesAreApplied() {
+        TemplateInterpolator interpolator = new TemplateInterpolator()
+        assertThat interpolator.interpolate('${foo}', [foo: "bar"]), is("bar")
+        assertThat interpolator.interpolate('${foo}', [foo: "baz"]), is("baz")
+    }
+
+    @Test(expectedExceptions = IllegalStateException)
+    void cycleFails() {
+        new TemplateInterpolator().interpolate('${cycle}', CONTEXT)
+    }
+}